@@ -1,100 +1,598 @@
 package com.todoapp.business.service;
 
-import com.todoapp.common.exception.ErrorCode;
+import com.todoapp.common.exception.BusinessException;
 import com.todoapp.common.exception.TodoAccessDeniedException;
+import com.todoapp.common.exception.TodoVersionConflictException;
 import com.todoapp.common.security.CurrentUserIdProvider;
 import com.todoapp.common.security.SecurityUtils;
 import com.todoapp.dataaccess.entity.Todo;
+import com.todoapp.dataaccess.entity.TodoTombstone;
 import com.todoapp.dataaccess.entity.User;
+import com.todoapp.dataaccess.projection.TodoChangeView;
+import com.todoapp.dataaccess.projection.TodoView;
+import com.todoapp.dataaccess.repository.TodoFilter;
 import com.todoapp.dataaccess.repository.TodoRepository;
+import com.todoapp.dataaccess.repository.TodoTombstoneRepository;
 import com.todoapp.dataaccess.repository.UserRepository;
 import com.todoapp.pressentation.dto.request.TodoCreateRequest;
+import com.todoapp.implement.todo.TodoBulkLimit;
+import com.todoapp.implement.todo.TodoChangeFeed;
+import com.todoapp.implement.todo.TodoChangeSequencer;
+import com.todoapp.implement.todo.TodoChangedEvent;
+import com.todoapp.implement.todo.TodoChangedEvent.Type;
+import com.todoapp.implement.todo.TodoCursor;
+import com.todoapp.implement.todo.TodoListCache;
+import com.todoapp.implement.todo.TodoListVersions;
+import com.todoapp.implement.todo.TodoReadCoalescer;
+import com.todoapp.implement.todo.TodoSearchIndex;
+import com.todoapp.implement.todo.TodoStatsRecorder;
+import com.todoapp.implement.todo.TodoSyncToken;
+import com.todoapp.implement.todo.TodoTitleSuggester;
 import com.todoapp.pressentation.dto.request.UpdateTodoRequest;
+import com.todoapp.pressentation.dto.response.CursorPageResponse;
+import com.todoapp.pressentation.dto.response.DailyCompletionResponse;
+import com.todoapp.pressentation.dto.response.SearchPageResponse;
+import com.todoapp.pressentation.dto.response.TodoBulkItemResult;
+import com.todoapp.pressentation.dto.response.TodoBulkItemResult.Status;
+import com.todoapp.pressentation.dto.response.TodoBulkResponse;
+import com.todoapp.pressentation.dto.response.TodoChangesResponse;
 import com.todoapp.pressentation.dto.response.TodoResponse;
+import com.todoapp.pressentation.dto.response.TodoStatsResponse;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class TodoService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_SUGGEST_SIZE = 10;
+    private static final int MAX_SUGGEST_SIZE = 20;
+    private static final int DEFAULT_CHANGES_SIZE = 100;
+    private static final int MAX_CHANGES_SIZE = 500;
+    private static final int DEFAULT_STATS_DAYS = 7;
+
     private final TodoRepository todoRepository;
+    private final TodoTombstoneRepository todoTombstoneRepository;
     private final UserRepository userRepository;
     private final CurrentUserIdProvider currentUserIdProvider;
+    private final TodoBulkLimit todoBulkLimit;
+    private final TodoListCache todoListCache;
+    private final TodoListVersions todoListVersions;
+    private final TodoReadCoalescer todoReadCoalescer;
+    private final TodoSearchIndex todoSearchIndex;
+    private final TodoTitleSuggester todoTitleSuggester;
+    private final TodoChangeFeed todoChangeFeed;
+    private final TodoChangeSequencer todoChangeSequencer;
+    private final TodoStatsRecorder todoStatsRecorder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public TodoResponse createTodo(TodoCreateRequest request) {
         long currentUserId = currentUserIdProvider.getCurrentUserId();
 
-        User user = userRepository.findById(currentUserId)
-                .orElseThrow(() -> new IllegalArgumentException(ErrorCode.TODO_NOT_FOUND.getMessage()));
+        // 인증된 사용자이므로 SELECT 없이 참조만 사용 (INSERT 1번)
+        User user = userRepository.getReferenceById(currentUserId);
 
         Todo todo = Todo.builder()
                 .title(request.getTitle())
                 .description(request.getDescription())
                 .user(user)
                 .build();
+        todo.markChanged(todoChangeSequencer.next(currentUserId));
 
         Todo savedTodo = todoRepository.save(todo);
+        todoStatsRecorder.recordCreated(currentUserId, 1);
+        publishChanged(currentUserId, Type.CREATED, List.of(savedTodo.getId()));
         return TodoResponse.from(savedTodo);
     }
 
+    /**
+     * 제목/설명 수정 - UPDATE 1번, null인 항목은 기존 값 유지
+     * 응답을 만들기 위해 수정된 행을 Projection으로 한 번 더 읽는다.
+     * 다른 쓰기와 같이 사용자별 순번 행을 커밋까지 잠근다. (TodoChangeSequencer.next)
+     *
+     * @param expectedVersions 클라이언트가 알고 있는 버전 (If-Match, 하나라도 같으면 수정), null이면 비교하지 않음
+     * @throws TodoAccessDeniedException 없거나 본인 소유가 아닌 Todo
+     * @throws TodoVersionConflictException 그 사이 다른 곳에서 수정된 Todo
+     */
     @Transactional
-    public TodoResponse updateTodo(Long id, UpdateTodoRequest request) {
+    public TodoResponse updateTodo(Long id, UpdateTodoRequest request, Collection<Long> expectedVersions) {
         long currentUserId = currentUserIdProvider.getCurrentUserId();
 
-        Todo todo = todoRepository.findOwnedTodoByIdAndUserId(id, currentUserId)
+        long changeSeq = todoChangeSequencer.next(currentUserId);
+        int updated = todoRepository.updateByIdAndUserId(
+                id, currentUserId, request.getTitle(), request.getDescription(),
+                expectedVersions == null, versionsParam(expectedVersions), Instant.now(), changeSeq);
+        if (updated == 0) {
+            throw notUpdated(id, currentUserId, expectedVersions);
+        }
+        publishChanged(currentUserId, Type.UPDATED, List.of(id));
+
+        return todoRepository.findOwnedViewByIdAndUserId(id, currentUserId)
+                .map(TodoResponse::from)
                 .orElseThrow(() -> new TodoAccessDeniedException());
+    }
 
-        if(request.getTitle() != null) {
-            todo.updateTitle(request.getTitle());
-        }
+    /**
+     * 단건 조회
+     * 읽기 메서드는 트랜잭션 없이 시작해서 동시에 들어온 같은 조회를 합친다. (TodoReadCoalescer)
+     * 호출한 쪽에 트랜잭션이 있으면 그대로 참여하고 합치지 않는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public TodoResponse findById(Long id) {
+        long currentUserId = currentUserIdProvider.getCurrentUserId();
 
-        if(request.getDescription() != null) {
-            todo.updateDescription(request.getDescription());
-        }
+        return todoReadCoalescer.execute(currentUserId, "findById", id, () -> {
+            TodoView todo = todoListCache.find(currentUserId, id)
+                    .or(() -> todoRepository.findOwnedViewByIdAndUserId(id, currentUserId))
+                    .orElseThrow(() -> new TodoAccessDeniedException());
 
-        return TodoResponse.from(todo);
+            return TodoResponse.from(todo);
+        });
     }
 
-    public TodoResponse findById(Long id) {
+    /**
+     * 단건 버전 - 조건부 조회(If-None-Match)에서 본문을 읽기 전에 비교한다.
+     *
+     * @throws TodoAccessDeniedException 없거나 다른 사용자의 Todo
+     */
+    public long findVersion(Long id) {
         long currentUserId = currentUserIdProvider.getCurrentUserId();
 
-        Todo todo = todoRepository.findOwnedTodoByIdAndUserId(id, currentUserId)
+        return todoListCache.find(currentUserId, id)
+                .map(TodoView::version)
+                .or(() -> todoRepository.findOwnedVersionByIdAndUserId(id, currentUserId))
                 .orElseThrow(() -> new TodoAccessDeniedException());
+    }
 
-        return TodoResponse.from(todo);
+    /**
+     * 현재 사용자의 목록 ETag
+     * 목록을 읽지 않고 버전만으로 만든다.
+     */
+    public String findAllETag() {
+        return todoListVersions.eTag(currentUserIdProvider.getCurrentUserId());
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<TodoResponse> findAll() {
         long currentUserId = currentUserIdProvider.getCurrentUserId();
 
-        return todoRepository.findAllByUserId(currentUserId)
-                .stream()
-                .map(TodoResponse::from)
+        return todoReadCoalescer.execute(currentUserId, "findAll", null, () ->
+                todoListCache.getOrLoad(currentUserId, () -> todoRepository.findAllViewsByUserId(currentUserId))
+                        .stream()
+                        .map(TodoResponse::from)
+                        .toList());
+    }
+
+    /**
+     * 조건 목록 조회
+     * 조건이 없으면 전체 목록 캐시를 그대로 사용하고, 있으면 DB에서 복합 인덱스로 거른다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<TodoResponse> findAll(TodoFilter filter) {
+        if (filter == null || filter.isEmpty()) {
+            return findAll();
+        }
+
+        long currentUserId = currentUserIdProvider.getCurrentUserId();
+        return todoReadCoalescer.execute(currentUserId, "findAllFiltered", filter, () ->
+                todoRepository.findAllViews(currentUserId, filter)
+                        .stream()
+                        .map(TodoResponse::from)
+                        .toList());
+    }
+
+    /**
+     * 최신순 Keyset 페이지 조회
+     *
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지면 null
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @return Todo 목록과 다음 페이지 커서
+     * @throws com.todoapp.common.exception.InvalidCursorException 형식이 맞지 않는 커서
+     */
+    public CursorPageResponse<TodoResponse> findPage(String cursor, Integer size) {
+        long currentUserId = currentUserIdProvider.getCurrentUserId();
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.clamp(size, 1, MAX_PAGE_SIZE);
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부를 판단 (count 쿼리 없음)
+        Limit limit = Limit.of(pageSize + 1);
+        List<TodoView> rows;
+        if (StringUtils.hasText(cursor)) {
+            TodoCursor after = TodoCursor.decode(cursor);
+            rows = todoRepository.findPageAfter(currentUserId, after.createdDate(), after.id(), limit);
+        } else {
+            rows = todoRepository.findFirstPage(currentUserId, limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<TodoView> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? TodoCursor.from(page.getLast()).encode() : null;
+
+        return new CursorPageResponse<>(
+                page.stream().map(TodoResponse::from).toList(),
+                nextCursor,
+                hasNext);
+    }
+
+    /**
+     * 제목/설명 전문 검색 (관련도 순)
+     * DB를 훑지 않고 사용자별 역색인에서 찾는다. 인덱스가 없거나 바뀐 Todo가 있을 때만 DB를 읽는다.
+     *
+     * @param query 검색어 (토큰이 없으면 빈 결과)
+     * @param page 0부터 시작하는 페이지 번호
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     */
+    public SearchPageResponse<TodoResponse> search(String query, Integer page, Integer size) {
+        long currentUserId = currentUserIdProvider.getCurrentUserId();
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.clamp(size, 1, MAX_PAGE_SIZE);
+        int pageNumber = page == null ? 0 : Math.max(page, 0);
+        int offset = (int) Math.min((long) pageNumber * pageSize, Integer.MAX_VALUE);
+
+        TodoSearchIndex.Result result = todoSearchIndex.search(
+                currentUserId,
+                query,
+                offset,
+                pageSize,
+                () -> todoRepository.findAllViewsByUserId(currentUserId),
+                ids -> todoRepository.findViewsByIdsAndUserId(ids, currentUserId));
+
+        return new SearchPageResponse<>(
+                result.items().stream().map(TodoResponse::from).toList(),
+                pageNumber,
+                pageSize,
+                result.totalHits(),
+                (long) offset + result.items().size() < result.totalHits());
+    }
+
+    /**
+     * 제목 자동완성 - 접두사로 시작하는 제목을 사전 순으로 limit개 찾아 최근 수정 순으로 (같은 제목은 한 번만)
+     * 키 입력마다 호출되므로 메모리의 사용자별 제목 배열에서 찾고, 바뀐 Todo가 있을 때만 DB를 읽는다.
+     *
+     * @param prefix 입력 중인 제목
+     * @param limit 최대 개수 (기본 10, 최대 20)
+     */
+    public List<String> suggestTitles(String prefix, Integer limit) {
+        long currentUserId = currentUserIdProvider.getCurrentUserId();
+        int maxCount = limit == null ? DEFAULT_SUGGEST_SIZE : Math.clamp(limit, 1, MAX_SUGGEST_SIZE);
+
+        return todoTitleSuggester.suggest(
+                currentUserId,
+                prefix,
+                maxCount,
+                () -> todoRepository.findAllViewsByUserId(currentUserId),
+                ids -> todoRepository.findViewsByIdsAndUserId(ids, currentUserId));
+    }
+
+    /**
+     * 현재 사용자의 Todo 변경 알림 구독 (SSE)
+     * 연결은 오래 유지되므로 트랜잭션을 잡지 않는다.
+     *
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 id, 처음이면 null
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter subscribeChanges(String lastEventId) {
+        long currentUserId = currentUserIdProvider.getCurrentUserId();
+        return todoChangeFeed.subscribe(currentUserId, lastEventId);
+    }
+
+    /**
+     * 델타 동기화 - since 이후에 바뀐 Todo와 삭제된 Todo id를 변경 순번 순으로
+     * since가 없으면 전체 Todo를 처음부터 내려준다. (삭제 기록 제외)
+     *
+     * 응답 범위의 끝은 조회 시작 시점에 커밋된 마지막 순번으로 고정한다.
+     * 순번은 커밋 순서대로 발급되므로 그 이하의 변경은 모두 보이고, 이후 변경은 다음 요청에서 받는다.
+     * 한 트랜잭션의 변경(같은 순번)은 여러 응답으로 나누지 않는다.
+     *
+     * 삭제 기록은 todo.sync.tombstone-retention 동안만 보관한다.
+     * since가 이미 지운 삭제 기록보다 오래되었으면 삭제를 빠뜨릴 수 있으므로 reset=true와 함께 전체 목록을 처음부터 내려준다.
+     *
+     * @param since 이전 응답의 syncToken, 처음이면 null
+     * @param limit 한 번에 받을 최대 변경 수 (기본 100, 최대 500)
+     * @throws com.todoapp.common.exception.InvalidSyncTokenException 형식이 맞지 않는 토큰
+     */
+    public TodoChangesResponse findChanges(String since, Integer limit) {
+        long currentUserId = currentUserIdProvider.getCurrentUserId();
+        int pageSize = limit == null ? DEFAULT_CHANGES_SIZE : Math.clamp(limit, 1, MAX_CHANGES_SIZE);
+        if (!StringUtils.hasText(since)) {
+            return readChanges(currentUserId, -1, true, pageSize, false);
+        }
+
+        TodoSyncToken token = TodoSyncToken.decode(since);
+        TodoChangesResponse response = readChanges(currentUserId, token.changeSeq(), token.fullSync(), pageSize, false);
+        // 삭제 기록을 읽은 뒤에 확인해야 그 사이 지워진 기록도 놓치지 않는다
+        // (전체 목록을 받는 중이면 그 전에 삭제된 Todo는 애초에 받지 않았으므로 확인하지 않는다)
+        if (!token.fullSync() && token.changeSeq() < todoChangeSequencer.purgedUpTo(currentUserId)) {
+            return readChanges(currentUserId, -1, true, pageSize, true);
+        }
+        return response;
+    }
+
+    /**
+     * (from, 현재 순번] 구간의 변경을 pageSize만큼
+     *
+     * @param from     이미 반영한 순번, 처음부터면 -1 (이때는 삭제 기록을 읽지 않는다)
+     * @param fullSync 전체 목록을 받는 중 - 다음 페이지 토큰에 표시한다
+     * @param reset    클라이언트가 로컬 목록을 비우고 다시 받아야 하는 응답
+     */
+    private TodoChangesResponse readChanges(
+            long currentUserId, long from, boolean fullSync, int pageSize, boolean reset) {
+        long upTo = todoChangeSequencer.current(currentUserId);
+        boolean fromStart = from < 0;
+
+        // 각각 한 건 더 읽어서 pageSize를 넘는지 판단
+        Limit fetch = Limit.of(pageSize + 1);
+        List<ChangeEntry> entries = merge(
+                todoRepository.findChanges(currentUserId, from, upTo, fetch),
+                fromStart ? List.of() : todoTombstoneRepository.findChanges(currentUserId, from, upTo, fetch));
+
+        if (entries.size() <= pageSize) {
+            return toChangesResponse(entries, new TodoSyncToken(upTo), false, reset);
+        }
+
+        // pageSize 다음 항목의 순번 전까지만 - 같은 순번이 잘리지 않게 한다
+        long cutSeq = entries.get(pageSize).changeSeq();
+        List<ChangeEntry> included = entries.stream().filter(entry -> entry.changeSeq() < cutSeq).toList();
+        if (included.isEmpty()) {
+            // 한 트랜잭션의 변경이 pageSize보다 많으면 그 순번만 통째로 보낸다
+            included = merge(
+                    todoRepository.findAllByChangeSeq(currentUserId, cutSeq),
+                    fromStart ? List.of() : todoTombstoneRepository.findAllByChangeSeq(currentUserId, cutSeq));
+            boolean hasMore = cutSeq < upTo;
+            return toChangesResponse(included, new TodoSyncToken(cutSeq, fullSync && hasMore), hasMore, reset);
+        }
+        return toChangesResponse(included, new TodoSyncToken(included.getLast().changeSeq(), fullSync), true, reset);
+    }
+
+    /**
+     * 대시보드 통계 - 전체/완료/남은 개수와 최근 days일의 일별 완료 수
+     * 쓰기 때마다 증감해 둔 카운터와 일별 집계만 읽으므로 Todo 개수와 무관하다.
+     *
+     * @param days 오늘을 포함한 최근 일수 (기본 7, 최대 todo.stats.retention-days)
+     */
+    public TodoStatsResponse findStats(Integer days) {
+        long currentUserId = currentUserIdProvider.getCurrentUserId();
+        int range = days == null
+                ? Math.min(DEFAULT_STATS_DAYS, todoStatsRecorder.getRetentionDays())
+                : Math.clamp(days, 1, todoStatsRecorder.getRetentionDays());
+
+        TodoStatsRecorder.Snapshot stats = todoStatsRecorder.read(currentUserId, range);
+        return new TodoStatsResponse(
+                stats.totalCount(),
+                stats.completedCount(),
+                stats.totalCount() - stats.completedCount(),
+                stats.daily().stream()
+                        .map(day -> new DailyCompletionResponse(day.date(), day.completions()))
+                        .toList());
+    }
+
+    /**
+     * 전체 Todo 내보내기 (최신순)
+     * 읽는 즉시 consumer로 넘기고 Projection이라 영속성 컨텍스트에 쌓이지 않으므로 Todo 개수와 무관하게 메모리 사용량이 일정하다.
+     *
+     * @param consumer Todo를 한 건씩 받아서 출력하는 쪽
+     */
+    public void exportTodos(Consumer<TodoResponse> consumer) {
+        long currentUserId = currentUserIdProvider.getCurrentUserId();
+
+        try (Stream<TodoView> todos = todoRepository.streamAllByUserId(currentUserId)) {
+            todos.map(TodoResponse::from).forEach(consumer);
+        }
+    }
+
+    /**
+     * 완료 처리 - UPDATE 1번
+     *
+     * @param expectedVersions 클라이언트가 알고 있는 버전 (If-Match, 하나라도 같으면 수정), null이면 비교하지 않음
+     * @throws TodoAccessDeniedException 없거나 본인 소유가 아닌 Todo
+     * @throws TodoVersionConflictException 그 사이 다른 곳에서 수정된 Todo
+     */
+    @Transactional
+    public void completeTodo(Long id, Collection<Long> expectedVersions) {
+        long currentUserId = currentUserIdProvider.getCurrentUserId();
+
+        long changeSeq = todoChangeSequencer.next(currentUserId);
+        Instant now = Instant.now();
+        boolean alreadyCompleted = !todoRepository.findCompletedAtsByIdsAndUserId(List.of(id), currentUserId).isEmpty();
+        if (todoRepository.completeByIdAndUserId(
+                id, currentUserId, expectedVersions == null, versionsParam(expectedVersions), now, changeSeq) == 0) {
+            throw notUpdated(id, currentUserId, expectedVersions);
+        }
+        todoStatsRecorder.recordCompleted(currentUserId, alreadyCompleted ? 0 : 1, now);
+        publishChanged(currentUserId, Type.COMPLETED, List.of(id));
+    }
+
+    /**
+     * 삭제 - DELETE 1번
+     *
+     * @throws TodoAccessDeniedException 없거나 본인 소유가 아닌 Todo
+     */
+    @Transactional
+    public void deleteTodo(Long id) {
+        long currentUserId = currentUserIdProvider.getCurrentUserId();
+
+        long changeSeq = todoChangeSequencer.next(currentUserId);
+        List<Instant> completedAts = todoRepository.findCompletedAtsByIdsAndUserId(List.of(id), currentUserId);
+        if (todoRepository.deleteByIdAndUserId(id, currentUserId) == 0) {
+            throw new TodoAccessDeniedException();
+        }
+        todoStatsRecorder.recordDeleted(currentUserId, 1, completedAts);
+        todoTombstoneRepository.save(tombstoneOf(currentUserId, id, changeSeq));
+        publishChanged(currentUserId, Type.DELETED, List.of(id));
+    }
+
+    /**
+     * 일괄 생성
+     * 시퀀스로 id를 미리 할당받으므로 INSERT가 JDBC 배치로 묶여 전송된다.
+     *
+     * @param requests 생성할 Todo 목록
+     * @return 요청 순서대로 생성된 Todo id
+     */
+    @Transactional
+    public TodoBulkResponse createTodos(List<TodoCreateRequest> requests) {
+        todoBulkLimit.check(requests.size());
+        long currentUserId = currentUserIdProvider.getCurrentUserId();
+
+        // 인증된 사용자이므로 SELECT 없이 참조만 사용
+        User user = userRepository.getReferenceById(currentUserId);
+
+        List<Todo> todos = requests.stream()
+                .map(request -> Todo.builder()
+                        .title(request.getTitle())
+                        .description(request.getDescription())
+                        .user(user)
+                        .build())
                 .toList();
+        long changeSeq = todoChangeSequencer.next(currentUserId);
+        todos.forEach(todo -> todo.markChanged(changeSeq));
+        todoRepository.saveAll(todos);
+        todoStatsRecorder.recordCreated(currentUserId, todos.size());
+        publishChanged(currentUserId, Type.CREATED, todos.stream().map(Todo::getId).toList());
+
+        return TodoBulkResponse.from(todos.stream()
+                .map(todo -> new TodoBulkItemResult(todo.getId(), Status.CREATED))
+                .toList());
     }
 
+    /**
+     * 일괄 완료 처리
+     *
+     * @param ids 완료할 Todo id 목록
+     * @return id별 처리 결과 (본인 소유가 아니거나 없는 id는 NOT_FOUND)
+     */
     @Transactional
-    public void completeTodo(Long id) {
+    public TodoBulkResponse completeTodos(List<Long> ids) {
+        todoBulkLimit.check(ids.size());
         long currentUserId = currentUserIdProvider.getCurrentUserId();
 
-        Todo todo = todoRepository.findOwnedTodoByIdAndUserId(id, currentUserId)
-                .orElseThrow(() -> new TodoAccessDeniedException());
+        Set<Long> owned = findOwnedIds(currentUserId, ids);
+        if (!owned.isEmpty()) {
+            long changeSeq = todoChangeSequencer.next(currentUserId);
+            Instant now = Instant.now();
+            int alreadyCompleted = todoRepository.findCompletedAtsByIdsAndUserId(owned, currentUserId).size();
+            int completed = todoRepository.completeAllByIdsAndUserId(owned, currentUserId, now, changeSeq);
+            todoStatsRecorder.recordCompleted(currentUserId, completed - alreadyCompleted, now);
+            publishChanged(currentUserId, Type.COMPLETED, List.copyOf(owned));
+        }
 
-        todo.complete();
+        return toBulkResponse(ids, owned, Status.COMPLETED);
     }
 
+    /**
+     * 일괄 삭제
+     *
+     * @param ids 삭제할 Todo id 목록
+     * @return id별 처리 결과 (본인 소유가 아니거나 없는 id는 NOT_FOUND)
+     */
     @Transactional
-    public void deleteTodo(Long id) {
+    public TodoBulkResponse deleteTodos(List<Long> ids) {
+        todoBulkLimit.check(ids.size());
         long currentUserId = currentUserIdProvider.getCurrentUserId();
 
-        Todo todo = todoRepository.findOwnedTodoByIdAndUserId(id, currentUserId)
-                .orElseThrow(() -> new TodoAccessDeniedException());
+        Set<Long> owned = findOwnedIds(currentUserId, ids);
+        if (!owned.isEmpty()) {
+            long changeSeq = todoChangeSequencer.next(currentUserId);
+            List<Instant> completedAts = todoRepository.findCompletedAtsByIdsAndUserId(owned, currentUserId);
+            int deleted = todoRepository.deleteAllByIdsAndUserId(owned, currentUserId);
+            todoStatsRecorder.recordDeleted(currentUserId, deleted, completedAts);
+            todoTombstoneRepository.saveAll(owned.stream()
+                    .map(todoId -> tombstoneOf(currentUserId, todoId, changeSeq))
+                    .toList());
+            publishChanged(currentUserId, Type.DELETED, List.copyOf(owned));
+        }
+
+        return toBulkResponse(ids, owned, Status.DELETED);
+    }
+
+    private static TodoTombstone tombstoneOf(long userId, Long todoId, long changeSeq) {
+        return TodoTombstone.builder()
+                .userId(userId)
+                .todoId(todoId)
+                .changeSeq(changeSeq)
+                .deletedAt(Instant.now())
+                .build();
+    }
+
+    // 두 목록 모두 순번 순이므로 병합만 하면 된다
+    private static List<ChangeEntry> merge(List<TodoChangeView> changed, List<TodoTombstone> deleted) {
+        List<ChangeEntry> entries = new ArrayList<>(changed.size() + deleted.size());
+        int i = 0;
+        int j = 0;
+        while (i < changed.size() || j < deleted.size()) {
+            if (j == deleted.size()
+                    || (i < changed.size() && changed.get(i).changeSeq() <= deleted.get(j).getChangeSeq())) {
+                TodoChangeView todo = changed.get(i++);
+                entries.add(new ChangeEntry(todo.changeSeq(), todo, null));
+            } else {
+                TodoTombstone tombstone = deleted.get(j++);
+                entries.add(new ChangeEntry(tombstone.getChangeSeq(), null, tombstone.getTodoId()));
+            }
+        }
+        return entries;
+    }
+
+    private static TodoChangesResponse toChangesResponse(
+            List<ChangeEntry> entries, TodoSyncToken syncToken, boolean hasMore, boolean reset) {
+        return new TodoChangesResponse(
+                entries.stream()
+                        .filter(entry -> entry.todo() != null)
+                        .map(entry -> TodoResponse.from(entry.todo().toView()))
+                        .toList(),
+                entries.stream()
+                        .filter(entry -> entry.deletedId() != null)
+                        .map(ChangeEntry::deletedId)
+                        .toList(),
+                syncToken.encode(),
+                hasMore,
+                reset);
+    }
+
+    // 델타 동기화 항목 - todo(생성/수정/완료)와 deletedId(삭제) 중 하나만 있다
+    private record ChangeEntry(long changeSeq, TodoChangeView todo, Long deletedId) {
+    }
+
+    // 수정된 행이 없을 때 - 버전을 비교했고 Todo가 있으면 버전 충돌, 아니면 접근 불가
+    private BusinessException notUpdated(Long id, long userId, Collection<Long> expectedVersions) {
+        if (expectedVersions != null && todoRepository.existsByIdAndUserId(id, userId)) {
+            return new TodoVersionConflictException();
+        }
+        return new TodoAccessDeniedException();
+    }
+
+    // IN 목록은 비워 둘 수 없어서 버전을 비교하지 않을 때도 자리만 채운다 (anyVersion = true라 쓰이지 않음)
+    private static Collection<Long> versionsParam(Collection<Long> expectedVersions) {
+        return expectedVersions == null || expectedVersions.isEmpty() ? List.of(-1L) : expectedVersions;
+    }
+
+    private void publishChanged(long userId, Type type, List<Long> todoIds) {
+        eventPublisher.publishEvent(new TodoChangedEvent(userId, type, todoIds));
+    }
+
+    private Set<Long> findOwnedIds(long userId, List<Long> ids) {
+        return new HashSet<>(todoRepository.findOwnedIds(userId, new HashSet<>(ids)));
+    }
 
-        todoRepository.delete(todo);
+    // 중복 id는 한 번만, 요청 순서대로 결과를 만든다
+    private TodoBulkResponse toBulkResponse(List<Long> ids, Set<Long> owned, Status successStatus) {
+        return TodoBulkResponse.from(new LinkedHashSet<>(ids).stream()
+                .map(id -> new TodoBulkItemResult(id, owned.contains(id) ? successStatus : Status.NOT_FOUND))
+                .toList());
     }
 }
@@ -1,19 +1,31 @@
 package com.todoapp.business.service;
 
 import com.todoapp.common.exception.InvalidCredentialsException;
+import com.todoapp.common.exception.InvalidTokenException;
+import com.todoapp.common.security.AccessTokenDenylist;
+import com.todoapp.common.security.AuthenticatedUser;
 import com.todoapp.common.security.CustomUserDetails;
 import com.todoapp.common.security.JwtTokenProvider;
+import com.todoapp.common.security.RefreshToken;
+import com.todoapp.common.security.RefreshTokenStore;
+import com.todoapp.common.security.UserPrincipalCache;
 import com.todoapp.dataaccess.entity.User;
 import com.todoapp.pressentation.dto.request.LoginRequest;
+import com.todoapp.pressentation.dto.request.LogoutRequest;
 import com.todoapp.pressentation.dto.request.SignUpRequest;
+import com.todoapp.pressentation.dto.request.TokenRefreshRequest;
 import com.todoapp.dataaccess.repository.UserRepository;
+import com.todoapp.implement.todo.TodoChangeSequencer;
 import com.todoapp.pressentation.dto.response.LoginResponse;
+import com.todoapp.pressentation.dto.response.TokenRefreshResponse;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -25,6 +37,10 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserPrincipalCache userPrincipalCache;
+    private final RefreshTokenStore refreshTokenStore;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final TodoChangeSequencer todoChangeSequencer;
 
     @Transactional
     public User signUp(SignUpRequest request) {
@@ -43,16 +59,25 @@ public class UserService {
                 .phoneNumber(request.getPhoneNumber())
                 .build();
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        todoChangeSequencer.register(savedUser.getId());
+
+        // 같은 이메일로 캐시된 Principal이 남아있지 않도록 무효화
+        userPrincipalCache.invalidate(savedUser.getEmail());
+
+        return savedUser;
     }
 
     /**
      * 로그인 - Spring Security AuthenticationManager
+     * 트랜잭션 없이 실행해서 BCrypt 검증을 기다리는 동안 DB 커넥션을 잡고 있지 않는다.
+     * (사용자 조회와 재해싱 저장은 각자 짧은 트랜잭션으로 처리)
      *
      * @param request 로그인 요청 (이메일, 비밀번호)
      * @return LoginResponse 로그인 성공 정보
      * @throws InvalidCredentialsException 이메일 또는 비밀번호 불일치
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public LoginResponse login(LoginRequest request) {
         // 1단계 : Spring Security 인증 수행
         Authentication authentication = authenticationManager.authenticate(
@@ -68,9 +93,61 @@ public class UserService {
                 .id(userDetails.getUserId())
                 .email(userDetails.getEmail())
                 .name(userDetails.getName())
-                .accessToken(jwtTokenProvider.generateAccessToken(userDetails.getEmail()))
-                .refreshToken(jwtTokenProvider.generateRefreshToken(userDetails.getEmail()))
+                .accessToken(jwtTokenProvider.generateAccessToken(
+                        userDetails.getEmail(), userDetails.getUserId(), userDetails.getAuthorities()))
+                .refreshToken(jwtTokenProvider.generateRefreshToken(
+                        userDetails.getEmail(), userDetails.getUserId(), userDetails.getAuthorities()))
                 .message("로그인에 성공했습니다.")
                 .build();
     }
+
+    /**
+     * 토큰 재발급 - Refresh Token Rotation
+     * 서명 검증 1번과 메모리 조회만 하고 DB나 비밀번호 해싱은 거치지 않는다.
+     *
+     * @param request 재발급 요청 (Refresh Token)
+     * @return 새 Access Token과 새 Refresh Token
+     * @throws InvalidTokenException 유효하지 않거나 이미 사용된 Refresh Token
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TokenRefreshResponse refresh(TokenRefreshRequest request) {
+        RefreshToken refreshToken = jwtTokenProvider.parseRefreshToken(request.getRefreshToken())
+                .orElseThrow(InvalidTokenException::new);
+
+        if (refreshTokenStore.isFamilyRevoked(refreshToken.familyId())) {
+            throw new InvalidTokenException();
+        }
+
+        // 이미 사용된 토큰이 다시 들어오면 탈취된 것으로 보고 같은 family를 모두 폐기
+        if (!refreshTokenStore.markUsed(refreshToken)) {
+            refreshTokenStore.revokeFamily(refreshToken.familyId());
+            throw new InvalidTokenException();
+        }
+
+        AuthenticatedUser user = refreshToken.user();
+        return new TokenRefreshResponse(
+                jwtTokenProvider.generateAccessToken(user.email(), user.userId(), user.authorities()),
+                jwtTokenProvider.rotateRefreshToken(refreshToken));
+    }
+
+    /**
+     * 로그아웃 - Access Token을 만료 전에 폐기
+     * Refresh Token이 함께 오면 같은 family도 폐기해 더 이상 재발급받을 수 없게 한다.
+     *
+     * @param accessToken 현재 요청의 Access Token
+     * @param request 로그아웃 요청 (Refresh Token, 선택)
+     * @throws InvalidTokenException 유효하지 않은 Access Token
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void logout(String accessToken, LogoutRequest request) {
+        Claims claims = jwtTokenProvider.verifyAccessToken(accessToken)
+                .orElseThrow(InvalidTokenException::new);
+        accessTokenDenylist.revoke(claims);
+
+        if (request != null && request.getRefreshToken() != null) {
+            jwtTokenProvider.parseRefreshToken(request.getRefreshToken())
+                    .filter(refreshToken -> refreshToken.user().email().equals(claims.getSubject()))
+                    .ifPresent(refreshToken -> refreshTokenStore.revokeFamily(refreshToken.familyId()));
+        }
+    }
 }
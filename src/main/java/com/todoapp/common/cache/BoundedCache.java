@@ -0,0 +1,227 @@
+package com.todoapp.common.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 크기와 TTL로 제한되는 인메모리 캐시
+ * 키 해시로 나눈 세그먼트마다 접근 순서 LinkedHashMap(LRU)을 두어 락 경합을 줄인다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입 (불변 객체를 넣어야 한다)
+ */
+public class BoundedCache<K, V> {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final Segment<K, V>[] segments;
+    private final long ttlNanos;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public BoundedCache(int maxSize, Duration ttl) {
+        int segmentCapacity = maxSize <= 0 ? 0 : Math.max(1, maxSize / SEGMENT_COUNT);
+        this.segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment<>(segmentCapacity);
+        }
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        long now = System.nanoTime();
+
+        segment.lock.lock();
+        try {
+            Entry<V> entry = segment.entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.expiresAt() - now <= 0) {
+                segment.entries.remove(key);
+                evictions.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value();
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void put(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        if (segment.capacity == 0) {
+            return;
+        }
+
+        segment.lock.lock();
+        try {
+            segment.entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+            evictOverflow(segment);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * 살아 있는 값이 없을 때만 넣는다. (확인과 저장이 한 번의 락 안에서 일어난다)
+     *
+     * @return 이미 있던 값, 새로 넣었거나 용량이 0이라 넣지 못했으면 null
+     */
+    public V putIfAbsent(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        if (segment.capacity == 0) {
+            return null;
+        }
+        long now = System.nanoTime();
+
+        segment.lock.lock();
+        try {
+            Entry<V> entry = segment.entries.get(key);
+            if (entry != null && entry.expiresAt() - now > 0) {
+                hits.increment();
+                return entry.value();
+            }
+            if (entry != null) {
+                evictions.increment();
+            }
+            misses.increment();
+            segment.entries.put(key, new Entry<>(value, now + ttlNanos));
+            evictOverflow(segment);
+            return null;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 값이 value와 같은 객체일 때만 제거 (그 사이 다른 값으로 바뀌었으면 그대로 둔다)
+     */
+    public void invalidate(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+
+        segment.lock.lock();
+        try {
+            Entry<V> entry = segment.entries.get(key);
+            if (entry != null && entry.value() == value) {
+                segment.entries.remove(key);
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        Segment<K, V> segment = segmentFor(key);
+
+        segment.lock.lock();
+        try {
+            segment.entries.remove(key);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.entries.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.entries.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Micrometer 표준 캐시 지표 이름(cache.gets, cache.evictions, cache.size)으로 등록
+     *
+     * @param registry MeterRegistry
+     * @param cacheName cache 태그 값
+     */
+    public void bindTo(MeterRegistry registry, String cacheName) {
+        FunctionCounter.builder("cache.gets", this, BoundedCache::hitCount)
+                .tag("cache", cacheName)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", this, BoundedCache::missCount)
+                .tag("cache", cacheName)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", this, BoundedCache::evictionCount)
+                .tag("cache", cacheName)
+                .register(registry);
+        Gauge.builder("cache.size", this, BoundedCache::size)
+                .tag("cache", cacheName)
+                .register(registry);
+    }
+
+    // 용량을 넘으면 가장 오래 사용되지 않은 항목부터 제거 (세그먼트 락을 잡은 상태에서 호출)
+    private void evictOverflow(Segment<K, V> segment) {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = segment.entries.entrySet().iterator();
+        while (segment.entries.size() > segment.capacity && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[hash & (SEGMENT_COUNT - 1)];
+    }
+
+    private static final class Segment<K, V> {
+
+        private final int capacity;
+        private final ReentrantLock lock = new ReentrantLock();
+        // accessOrder = true : get() 할 때마다 가장 최근 항목으로 이동
+        private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        private Segment(int capacity) {
+            this.capacity = capacity;
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.todoapp.common.exception;
+
+public class BulkSizeExceededException extends BusinessException {
+    public BulkSizeExceededException(int maxSize) {
+        super(ErrorCode.BULK_SIZE_EXCEEDED,
+                ErrorCode.BULK_SIZE_EXCEEDED.getMessage() + " (최대 " + maxSize + "개)");
+    }
+}
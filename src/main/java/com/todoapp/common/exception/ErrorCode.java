@@ -9,19 +9,35 @@ import org.springframework.http.HttpStatus;
 public enum ErrorCode {
     // 400 Bad Request
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "E001", "잘못된 입력값입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "E004", "유효하지 않은 페이지 커서입니다."),
+    BULK_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "E005", "한 번에 처리할 수 있는 개수를 초과했습니다."),
+    INVALID_SYNC_TOKEN(HttpStatus.BAD_REQUEST, "E006", "유효하지 않은 동기화 토큰입니다."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "E007", "유효하지 않은 Idempotency-Key입니다."),
 
     // 401 인증/인가 에러
     INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED, "A001", "이메일 또는 비밀번호가 일치하지 않습니다."),
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "A002", "존재하지 않는 사용자입니다."),
+    INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "A005", "유효하지 않은 토큰입니다."),
 
     // 403 Forbidden (새로 추가)
     FORBIDDEN_TODO_ACCESS(HttpStatus.FORBIDDEN, "T001", "해당 Todo에 접근할 권한이 없습니다."),
 
+    // 412 Precondition Failed
+    TODO_VERSION_CONFLICT(HttpStatus.PRECONDITION_FAILED, "T002", "다른 곳에서 먼저 수정된 Todo입니다. 다시 조회 후 시도해주세요."),
+
     // 404 Not Found
     TODO_NOT_FOUND(HttpStatus.NOT_FOUND, "E003", "Todo 찾을 수 없습니다."),
 
     // 409 Conflict
     DUPLICATE_EMAIL(HttpStatus.CONFLICT, "E002", "이미 사용 중인 이메일입니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.CONFLICT, "E008", "다른 요청에 이미 사용한 Idempotency-Key입니다."),
+    IDEMPOTENT_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "E009", "같은 Idempotency-Key의 요청을 처리 중입니다. 잠시 후 다시 시도해주세요."),
+
+    // 429 Too Many Requests
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "A004", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
+    // 503 Service Unavailable
+    PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "A003", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // 500 Internal Server Error
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "E999", "서버 오류가 발생했습니다.");
@@ -0,0 +1,8 @@
+package com.todoapp.common.exception;
+
+public class IdempotencyKeyReusedException extends BusinessException {
+
+    public IdempotencyKeyReusedException() {
+        super(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+}
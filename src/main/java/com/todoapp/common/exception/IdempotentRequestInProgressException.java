@@ -0,0 +1,8 @@
+package com.todoapp.common.exception;
+
+public class IdempotentRequestInProgressException extends BusinessException {
+
+    public IdempotentRequestInProgressException() {
+        super(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+    }
+}
@@ -0,0 +1,7 @@
+package com.todoapp.common.exception;
+
+public class InvalidCursorException extends BusinessException {
+    public InvalidCursorException() {
+        super(ErrorCode.INVALID_CURSOR);
+    }
+}
@@ -0,0 +1,8 @@
+package com.todoapp.common.exception;
+
+public class InvalidIdempotencyKeyException extends BusinessException {
+
+    public InvalidIdempotencyKeyException() {
+        super(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+    }
+}
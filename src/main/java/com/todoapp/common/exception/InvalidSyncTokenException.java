@@ -0,0 +1,7 @@
+package com.todoapp.common.exception;
+
+public class InvalidSyncTokenException extends BusinessException {
+    public InvalidSyncTokenException() {
+        super(ErrorCode.INVALID_SYNC_TOKEN);
+    }
+}
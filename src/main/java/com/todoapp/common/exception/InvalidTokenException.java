@@ -0,0 +1,7 @@
+package com.todoapp.common.exception;
+
+public class InvalidTokenException extends BusinessException {
+    public InvalidTokenException() {
+        super(ErrorCode.INVALID_TOKEN);
+    }
+}
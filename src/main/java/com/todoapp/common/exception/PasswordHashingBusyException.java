@@ -0,0 +1,8 @@
+package com.todoapp.common.exception;
+
+public class PasswordHashingBusyException extends BusinessException {
+
+    public PasswordHashingBusyException() {
+        super(ErrorCode.PASSWORD_HASHING_BUSY);
+    }
+}
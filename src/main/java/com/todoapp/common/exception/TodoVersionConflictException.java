@@ -0,0 +1,8 @@
+package com.todoapp.common.exception;
+
+public class TodoVersionConflictException extends BusinessException {
+
+    public TodoVersionConflictException() {
+        super(ErrorCode.TODO_VERSION_CONFLICT);
+    }
+}
@@ -0,0 +1,45 @@
+package com.todoapp.common.security;
+
+import io.jsonwebtoken.Claims;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그아웃 등으로 만료 전에 폐기된 Access Token(jti) 목록
+ * 매 요청마다 JwtAuthenticationFilter가 조회하므로 DB 없이 메모리에서만 확인한다.
+ * 토큰 자체의 만료 시각이 지나면 목록에서도 자동으로 빠진다.
+ */
+@Component
+public class AccessTokenDenylist {
+
+    private static final int BUCKET_COUNT = 16;
+    private static final int EXPECTED_INSERTIONS_PER_BUCKET = 4096;
+
+    private final ExpiringIdSet revokedTokenIds;
+
+    public AccessTokenDenylist(@Value("${jwt.access-token-expiration}") long accessTokenExpiration) {
+        Duration bucketWidth = Duration.ofMillis(accessTokenExpiration).dividedBy(BUCKET_COUNT);
+        this.revokedTokenIds = new ExpiringIdSet(bucketWidth, EXPECTED_INSERTIONS_PER_BUCKET);
+    }
+
+    /**
+     * 토큰 폐기
+     * jti가 없는 토큰은 폐기할 수 없으므로 무시한다.
+     *
+     * @param claims 검증된 Access Token의 Claims
+     */
+    public void revoke(Claims claims) {
+        if (claims.getId() != null && claims.getExpiration() != null) {
+            revokedTokenIds.add(claims.getId(), claims.getExpiration().toInstant());
+        }
+    }
+
+    public boolean isRevoked(Claims claims) {
+        return claims.getId() != null && revokedTokenIds.contains(claims.getId());
+    }
+
+    public int size() {
+        return revokedTokenIds.size();
+    }
+}
@@ -0,0 +1,201 @@
+package com.todoapp.common.security;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.todoapp.common.exception.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * 로그인/회원가입 요청을 클라이언트 IP와 이메일 기준으로 제한하는 Filter
+ * 로그인 1건마다 BCrypt 검증 비용이 들기 때문에 크리덴셜 스터핑이 CPU DoS가 되지 않도록 막는다.
+ * 제한을 넘으면 429와 Retry-After 헤더를 반환한다.
+ */
+@Slf4j
+@Component
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> LIMITED_PATHS = Set.of("/api/auth/login", "/api/auth/signup");
+    private static final int MAX_BODY_BYTES = 8 * 1024;
+
+    private final boolean enabled;
+    private final RateLimiter ipRateLimiter;
+    private final RateLimiter emailRateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public AuthRateLimitFilter(
+            ObjectMapper objectMapper,
+            @Value("${security.rate-limit.enabled:true}") boolean enabled,
+            @Value("${security.rate-limit.ip.capacity:30}") int ipCapacity,
+            @Value("${security.rate-limit.ip.period:1m}") Duration ipPeriod,
+            @Value("${security.rate-limit.email.capacity:10}") int emailCapacity,
+            @Value("${security.rate-limit.email.period:1m}") Duration emailPeriod,
+            @Value("${security.rate-limit.max-keys:100000}") int maxKeys) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ipRateLimiter = new RateLimiter(ipCapacity, ipPeriod, maxKeys);
+        this.emailRateLimiter = new RateLimiter(emailCapacity, emailPeriod, maxKeys);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !"POST".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !LIMITED_PATHS.contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        long waitNanos = ipRateLimiter.tryAcquire("ip:" + request.getRemoteAddr());
+        if (waitNanos > 0) {
+            reject(response, waitNanos);
+            return;
+        }
+
+        // 이메일을 꺼내려면 body를 읽어야 하므로 다시 읽을 수 있게 감싼다
+        HttpServletRequest cachedRequest = cacheBody(request);
+        String email = extractEmail(cachedRequest);
+        if (email != null) {
+            waitNanos = emailRateLimiter.tryAcquire("email:" + email);
+            if (waitNanos > 0) {
+                reject(response, waitNanos);
+                return;
+            }
+        }
+
+        filterChain.doFilter(cachedRequest, response);
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        ErrorCode errorCode = ErrorCode.TOO_MANY_REQUESTS;
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("code", errorCode.getCode());
+        body.put("message", errorCode.getMessage());
+        body.put("timestamp", Instant.now().toString());
+
+        response.setStatus(errorCode.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getOutputStream().write(objectMapper.writeValueAsBytes(body));
+    }
+
+    private HttpServletRequest cacheBody(HttpServletRequest request) throws IOException {
+        long contentLength = request.getContentLengthLong();
+        // 크기를 모르거나 너무 큰 body는 읽지 않는다 (IP 제한만 적용)
+        if (contentLength <= 0 || contentLength > MAX_BODY_BYTES) {
+            return request;
+        }
+        return new CachedBodyRequest(request, request.getInputStream().readAllBytes());
+    }
+
+    private String extractEmail(HttpServletRequest request) {
+        if (!(request instanceof CachedBodyRequest cachedBodyRequest)) {
+            return null;
+        }
+        try {
+            EmailOnly emailOnly = objectMapper.readValue(cachedBodyRequest.body, EmailOnly.class);
+            return StringUtils.hasText(emailOnly.email())
+                    ? emailOnly.email().trim().toLowerCase(Locale.ROOT)
+                    : null;
+        } catch (JacksonException e) {
+            // 잘못된 JSON은 컨트롤러의 검증에서 400으로 처리된다
+            log.debug("Rate limit 이메일 추출 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record EmailOnly(String email) {
+    }
+
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * body를 이미 메모리에 다 읽어 두었으므로 바로 읽을 수 있음과 끝까지 읽었음을 알린다.
+                 */
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return inputStream.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(
+                    getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
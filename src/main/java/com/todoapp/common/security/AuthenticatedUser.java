@@ -0,0 +1,24 @@
+package com.todoapp.common.security;
+
+import java.util.List;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * 요청 처리에 필요한 최소한의 인증 정보만 담는 불변 Principal
+ * User Entity나 비밀번호 해시를 들고 있지 않는다.
+ */
+public record AuthenticatedUser(
+        Long userId,
+        String email,
+        List<GrantedAuthority> authorities) implements AuthenticatedPrincipal {
+
+    public AuthenticatedUser {
+        authorities = List.copyOf(authorities);
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -0,0 +1,76 @@
+package com.todoapp.common.security;
+
+/**
+ * 요청을 처리하는 동안 인증된 userId를 현재 스레드에 묶어 두는 홀더
+ * JwtAuthenticationFilter가 토큰 검증 직후 한 번 묶고, 필터 체인이 끝나면 이전 값으로 되돌린다.
+ * 읽기는 ThreadLocal 조회 한 번이라 SecurityContext → Authentication → Principal 언랩보다 싸다.
+ *
+ * ScopedValue처럼 묶이는 범위가 try 블록으로 정해지고, 범위를 벗어나면 반드시 풀린다.
+ * (ScopedValue는 Java 21에서 preview API라 --enable-preview 없이는 쓸 수 없어 ThreadLocal로 같은 사용법을 만든다)
+ * 풀 때 값을 지우므로 가상 스레드가 아무리 많아도 요청을 처리 중인 스레드에만 항목이 남는다.
+ *
+ * 자식 작업에는 InheritableThreadLocal처럼 스레드를 만들 때 복사하지 않는다.
+ * 작업을 넘길 때 wrap으로 현재 값을 잡아 두고, 실행하는 동안만 실행 스레드에 묶는다. (풀 스레드에 값이 남지 않는다)
+ */
+public final class BoundUserId {
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    private BoundUserId() {
+    }
+
+    /**
+     * userId를 현재 스레드에 묶는다. try-with-resources로 사용하고, 닫으면 이전 값으로 되돌린다.
+     *
+     * @param userId 인증된 사용자 id
+     * @return 묶인 범위
+     */
+    public static Scope bind(Long userId) {
+        Long previous = CURRENT.get();
+        CURRENT.set(userId);
+        return new Scope(previous);
+    }
+
+    /**
+     * @return 현재 스레드에 묶인 userId, 없으면 null
+     */
+    public static Long get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 지금 묶인 userId를 잡아 두고, task를 실행하는 동안 실행 스레드에 묶는다.
+     *
+     * @param task 다른 스레드에서 실행할 작업
+     * @return 감싼 작업 (묶인 값이 없으면 task 그대로)
+     */
+    public static Runnable wrap(Runnable task) {
+        Long userId = CURRENT.get();
+        if (userId == null) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = bind(userId)) {
+                task.run();
+            }
+        };
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Long previous;
+
+        private Scope(Long previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
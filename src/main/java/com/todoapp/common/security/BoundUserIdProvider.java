@@ -0,0 +1,21 @@
+package com.todoapp.common.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * JwtAuthenticationFilter가 묶어 둔 userId(BoundUserId)를 바로 돌려주는 CurrentUserIdProvider
+ * 묶인 값이 없으면 (필터를 거치지 않은 호출, SecurityContext를 직접 설정한 경우) SecurityContext에서 찾는다.
+ * security.bound-user-id.enabled=false면 등록되지 않고 SpringSecurityCurrentUserIdProvider를 쓴다.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "security.bound-user-id.enabled", havingValue = "true", matchIfMissing = true)
+public class BoundUserIdProvider implements CurrentUserIdProvider {
+    @Override
+    public long getCurrentUserId() {
+        Long userId = BoundUserId.get();
+        return userId != null ? userId : SecurityUtils.getCurrentUserId();
+    }
+}
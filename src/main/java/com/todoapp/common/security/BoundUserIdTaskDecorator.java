@@ -0,0 +1,16 @@
+package com.todoapp.common.security;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 스레드에 묶인 userId를 비동기 작업 스레드로 넘기는 TaskDecorator
+ * Spring Boot가 applicationTaskExecutor(@Async, MVC 비동기 요청 처리)에 자동으로 적용한다.
+ */
+@Component
+public class BoundUserIdTaskDecorator implements TaskDecorator {
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return BoundUserId.wrap(runnable);
+    }
+}
@@ -4,15 +4,19 @@ import com.todoapp.dataaccess.entity.User;
 import com.todoapp.dataaccess.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailService implements UserDetailsService {
+public class CustomUserDetailService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -21,4 +25,41 @@ public class CustomUserDetailService implements UserDetailsService {
 
         return new CustomUserDetails(user);
     }
+
+    /**
+     * 요청 인증용 Principal 조회
+     * 비밀번호 검증이 필요 없으므로 캐시된 AuthenticatedUser를 우선 사용한다.
+     *
+     * @param email 사용자 이메일
+     * @return 비밀번호 해시가 없는 AuthenticatedUser
+     * @throws UsernameNotFoundException 사용자가 없는 경우
+     */
+    public AuthenticatedUser loadPrincipal(String email) throws UsernameNotFoundException {
+        AuthenticatedUser cached = userPrincipalCache.get(email);
+        if (cached != null) {
+            return cached;
+        }
+
+        CustomUserDetails userDetails = (CustomUserDetails) loadUserByUsername(email);
+        AuthenticatedUser principal = userDetails.toPrincipal();
+        userPrincipalCache.put(principal);
+        return principal;
+    }
+
+    /**
+     * 로그인 성공 시 DaoAuthenticationProvider가 호출
+     * 저장된 해시가 예전 형식이거나 cost가 현재 설정보다 낮으면 새 해시로 교체한다.
+     * 로그인은 트랜잭션 없이 진행되므로 저장만 짧은 별도 트랜잭션으로 처리한다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userDetails.getUsername()));
+
+        user.changePassword(newPassword);
+        userPrincipalCache.invalidate(user.getEmail());
+
+        return new CustomUserDetails(user);
+    }
 }
@@ -3,6 +3,7 @@ package com.todoapp.common.security;
 import com.todoapp.dataaccess.entity.User;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.Nullable;
@@ -45,4 +46,9 @@ public class CustomUserDetails implements UserDetails {
     public String getEmail() {
         return user.getEmail();
     }
+
+    // 캐시/SecurityContext에 보관할 수 있도록 Entity와 비밀번호를 뺀 Principal로 변환
+    public AuthenticatedUser toPrincipal() {
+        return new AuthenticatedUser(getUserId(), getEmail(), List.copyOf(getAuthorities()));
+    }
 }
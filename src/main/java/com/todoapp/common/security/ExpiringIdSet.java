@@ -0,0 +1,90 @@
+package com.todoapp.common.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 만료 시각이 있는 id(jti 등)를 보관하는 Set
+ * 만료 시각을 bucketWidth 단위로 묶은 버킷에 저장하고, 버킷의 끝 시각이 지나면 버킷째 버린다.
+ * 그래서 메모리는 아직 만료되지 않은 id 수에만 비례한다.
+ * 버킷마다 Bloom Filter를 두어 대부분의 조회(없는 id)는 Set을 보지 않고 끝난다.
+ */
+public class ExpiringIdSet {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final long bucketMillis;
+    private final int expectedInsertionsPerBucket;
+    // key: 버킷 끝 시각(epoch millis), 이 시각이 지나면 버킷 안의 모든 id가 만료됨
+    private final ConcurrentSkipListMap<Long, Bucket> buckets = new ConcurrentSkipListMap<>();
+
+    public ExpiringIdSet(Duration bucketWidth, int expectedInsertionsPerBucket) {
+        this.bucketMillis = Math.max(1, bucketWidth.toMillis());
+        this.expectedInsertionsPerBucket = expectedInsertionsPerBucket;
+    }
+
+    /**
+     * id 추가
+     *
+     * @param id 추가할 id
+     * @param expiresAt 이 시각 이후에는 보관할 필요가 없음
+     * @return 새로 추가되었으면 true, 이미 있었으면 false
+     */
+    public boolean add(String id, Instant expiresAt) {
+        long now = System.currentTimeMillis();
+        long expiresAtMillis = expiresAt.toEpochMilli();
+        purgeExpired(now);
+
+        if (expiresAtMillis <= now) {
+            return true;
+        }
+
+        long bucketEnd = (expiresAtMillis / bucketMillis + 1) * bucketMillis;
+        Bucket bucket = buckets.computeIfAbsent(bucketEnd, end -> new Bucket(expectedInsertionsPerBucket));
+
+        // Set에 먼저 넣고 Bloom에 표시해도, Bloom이 true일 때만 Set을 보므로 조회 결과는 항상 맞다
+        boolean added = bucket.ids.add(id);
+        bucket.bloomFilter.put(id);
+        return added;
+    }
+
+    public boolean contains(String id) {
+        purgeExpired(System.currentTimeMillis());
+
+        for (Bucket bucket : buckets.values()) {
+            if (bucket.bloomFilter.mightContain(id) && bucket.ids.contains(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Bucket bucket : buckets.values()) {
+            size += bucket.ids.size();
+        }
+        return size;
+    }
+
+    private void purgeExpired(long now) {
+        Map.Entry<Long, Bucket> oldest = buckets.firstEntry();
+        if (oldest != null && oldest.getKey() <= now) {
+            buckets.headMap(now, true).clear();
+        }
+    }
+
+    private static final class Bucket {
+
+        private final Set<String> ids = ConcurrentHashMap.newKeySet();
+        private final BloomFilter bloomFilter;
+
+        private Bucket(int expectedInsertions) {
+            this.bloomFilter = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+        }
+    }
+}
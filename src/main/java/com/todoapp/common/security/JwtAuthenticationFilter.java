@@ -1,15 +1,16 @@
 package com.todoapp.common.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import lombok.RequiredArgsConstructor;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -20,34 +21,52 @@ import org.springframework.web.filter.OncePerRequestFilter;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailService service;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final boolean statelessPrincipal;
+
+    public JwtAuthenticationFilter(
+            JwtTokenProvider jwtTokenProvider,
+            CustomUserDetailService service,
+            AccessTokenDenylist accessTokenDenylist,
+            @Value("${jwt.stateless-principal:false}") boolean statelessPrincipal) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.service = service;
+        this.accessTokenDenylist = accessTokenDenylist;
+        this.statelessPrincipal = statelessPrincipal;
+    }
 
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
+        Long userId = null;
         try {
             String token = extractTokenFromRequest(request);
 
-            // 토큰이 있고 유효한지 검증
-            if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
+            // 토큰이 있으면 한 번만 검증하고 검증된 Claims를 재사용, 로그아웃된 토큰은 제외
+            Optional<Claims> claims = StringUtils.hasText(token)
+                    ? jwtTokenProvider.verifyAccessToken(token).filter(c -> !accessTokenDenylist.isRevoked(c))
+                    : Optional.empty();
+
+            if (claims.isPresent()) {
 
                 // 토큰에서 이메일 추출
-                String email = jwtTokenProvider.getEmailFromToken(token);
+                String email = claims.get().getSubject();
 
-                UserDetails userDetails = service.loadUserByUsername(email);
+                AuthenticatedUser principal = resolvePrincipal(claims.get(), email);
 
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(principal, null, principal.authorities());
 
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                userId = principal.userId();
 
                 log.debug("JWT 인증 성공: {}", email);
             }
@@ -55,12 +74,42 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             log.error("JWT 인증 실패: {}", e.getMessage());
         }
 
-        filterChain.doFilter(request, response);
+        if (userId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 인증된 요청은 처리하는 동안 userId를 스레드에 묶어 둔다. (CurrentUserIdProvider가 바로 읽는다)
+        try (BoundUserId.Scope ignored = BoundUserId.bind(userId)) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    /**
+     * Stateless 모드이고 토큰에 userId Claim이 있으면 DB 조회 없이 Principal을 만든다.
+     * 그 외에는 UserPrincipalCache를 거쳐 사용자를 조회한다.
+     */
+    private AuthenticatedUser resolvePrincipal(Claims claims, String email) {
+        Optional<AuthenticatedUser> statelessUser = statelessPrincipal
+                ? jwtTokenProvider.getPrincipal(claims)
+                : Optional.empty();
+
+        return statelessUser.isPresent()
+                ? statelessUser.get()
+                : service.loadPrincipal(email);
     }
 
     private String extractTokenFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
+        return resolveBearerToken(request.getHeader("Authorization"));
+    }
 
+    /**
+     * Authorization 헤더 값에서 Bearer 토큰 추출
+     *
+     * @param bearerToken Authorization 헤더 값
+     * @return Bearer 토큰, 없으면 null
+     */
+    public static String resolveBearerToken(String bearerToken) {
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
             return bearerToken.substring(7);
         }
@@ -2,16 +2,25 @@ package com.todoapp.common.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 /**
@@ -21,15 +30,35 @@ import org.springframework.stereotype.Component;
 @Component
 public class JwtTokenProvider {
 
+    private static final int DEFAULT_VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLES_CLAIM = "roles";
+    private static final String TOKEN_TYPE_CLAIM = "typ";
+    private static final String FAMILY_CLAIM = "fam";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
+    public JwtTokenProvider(String secret, long accessTokenExpiration, long refreshTokenExpiration) {
+        this(secret, accessTokenExpiration, refreshTokenExpiration, DEFAULT_VERIFIED_TOKEN_CACHE_SIZE);
+    }
+
+    @Autowired
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
-            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration) {
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,
+            @Value("${jwt.verified-token-cache-size:10000}") int verifiedTokenCacheSize) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        // JwtParser는 불변 객체이므로 한 번만 만들어 모든 요청에서 재사용한다
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokenCache = new VerifiedTokenCache(verifiedTokenCacheSize);
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
     }
@@ -45,6 +74,7 @@ public class JwtTokenProvider {
         Date expiryDate = new Date(now.getTime() + accessTokenExpiration);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())   // 토큰마다 고유한 id (로그아웃 시 폐기용)
                 .subject(email)             // 토큰 주인 (사용자 이메일)
                 .issuedAt(now)              // 발행 시간
                 .expiration(expiryDate)     // 만료 시간
@@ -52,16 +82,99 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * userId와 권한을 Claim으로 담은 Access Token 생성
+     * Stateless Principal 모드에서는 이 Claim만으로 인증 정보를 복원해 DB 조회를 생략한다.
+     *
+     * @param email 사용자 이메일
+     * @param userId 사용자 id
+     * @param authorities 사용자 권한
+     * @return JWT Access Token
+     */
+    public String generateAccessToken(String email, Long userId, Collection<? extends GrantedAuthority> authorities) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + accessTokenExpiration);
+
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(email)
+                .claim(USER_ID_CLAIM, userId)
+                .claim(ROLES_CLAIM, toRoles(authorities))
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(secretKey)
+                .compact();
+    }
+
     /**
      * Refresh Token 생성
      * @return JWT Refresh Token
      */
     public String generateRefreshToken(String email) {
+        return buildRefreshToken(email, null, List.of(), UUID.randomUUID().toString());
+    }
+
+    /**
+     * 새 로그인에 대한 Refresh Token 생성 (새 family 시작)
+     * 재발급 시 DB 조회 없이 Access Token을 만들 수 있도록 userId와 권한을 함께 담는다.
+     *
+     * @param email 사용자 이메일
+     * @param userId 사용자 id
+     * @param authorities 사용자 권한
+     * @return JWT Refresh Token
+     */
+    public String generateRefreshToken(String email, Long userId, Collection<? extends GrantedAuthority> authorities) {
+        return buildRefreshToken(email, userId, authorities, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 사용한 Refresh Token을 같은 family의 새 토큰으로 교체
+     *
+     * @param previous 방금 사용된 Refresh Token
+     * @return 새 JWT Refresh Token
+     */
+    public String rotateRefreshToken(RefreshToken previous) {
+        AuthenticatedUser user = previous.user();
+        return buildRefreshToken(user.email(), user.userId(), user.authorities(), previous.familyId());
+    }
+
+    /**
+     * Refresh Token 서명 검증 후 파싱
+     * Refresh Token은 한 번만 사용되므로 검증 캐시에 넣지 않는다.
+     *
+     * @param token JWT Refresh Token
+     * @return 유효한 Refresh Token이면 RefreshToken, 아니면 empty
+     */
+    public Optional<RefreshToken> parseRefreshToken(String token) {
+        Claims claims;
+        try {
+            claims = parseClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Invalid refresh token: {}", e.getMessage());
+            return Optional.empty();
+        }
+
+        String familyId = claims.get(FAMILY_CLAIM, String.class);
+        if (!isRefreshToken(claims) || claims.getId() == null || familyId == null) {
+            return Optional.empty();
+        }
+
+        AuthenticatedUser user = new AuthenticatedUser(getUserId(claims), claims.getSubject(), getAuthorities(claims));
+        return Optional.of(new RefreshToken(claims.getId(), familyId, user, claims.getExpiration().toInstant()));
+    }
+
+    private String buildRefreshToken(
+            String email, Long userId, Collection<? extends GrantedAuthority> authorities, String familyId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + refreshTokenExpiration);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())   // 토큰마다 고유한 id (재사용 감지용)
                 .subject(email)
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .claim(FAMILY_CLAIM, familyId)
+                .claim(USER_ID_CLAIM, userId)
+                .claim(ROLES_CLAIM, toRoles(authorities))
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(secretKey)
@@ -75,7 +188,7 @@ public class JwtTokenProvider {
      * @return 사용자 이메일
      */
     public String getEmailFromToken(String token) {
-        Claims claims = parseClaims(token);
+        Claims claims = resolveClaims(token);
         return claims.getSubject();
     }
 
@@ -86,9 +199,19 @@ public class JwtTokenProvider {
      * @return 유효하면 true, 아니면 false
      */
     public boolean validateToken(String token) {
+        return verifyToken(token).isPresent();
+    }
+
+    /**
+     * 토큰을 한 번만 검증하고 검증된 Claims를 반환
+     * 이미 검증된 토큰은 캐시에서 꺼내므로 서명 검증을 다시 하지 않는다.
+     *
+     * @param token JWT 토큰
+     * @return 유효하면 Claims, 아니면 empty
+     */
+    public Optional<Claims> verifyToken(String token) {
         try {
-            parseClaims(token);
-            return true;
+            return Optional.of(resolveClaims(token));
         } catch (SignatureException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
@@ -100,7 +223,73 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    /**
+     * Access Token 검증
+     * Refresh Token을 Bearer 토큰으로 사용하는 것은 허용하지 않는다.
+     *
+     * @param token JWT 토큰
+     * @return 유효한 Access Token이면 Claims, 아니면 empty
+     */
+    public Optional<Claims> verifyAccessToken(String token) {
+        return verifyToken(token).filter(claims -> !isRefreshToken(claims));
+    }
+
+    /**
+     * 검증된 Claims에서 DB 조회 없이 Principal 복원
+     *
+     * @param claims 검증된 토큰의 Claims
+     * @return userId Claim이 있으면 AuthenticatedUser, 없으면 empty (이전 형식의 토큰)
+     */
+    public Optional<AuthenticatedUser> getPrincipal(Claims claims) {
+        Long userId = getUserId(claims);
+        if (userId == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new AuthenticatedUser(userId, claims.getSubject(), getAuthorities(claims)));
+    }
+
+    private boolean isRefreshToken(Claims claims) {
+        return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM));
+    }
+
+    private Long getUserId(Claims claims) {
+        return claims.get(USER_ID_CLAIM) instanceof Number userId ? userId.longValue() : null;
+    }
+
+    private List<GrantedAuthority> getAuthorities(Claims claims) {
+        if (!(claims.get(ROLES_CLAIM) instanceof List<?> roles)) {
+            return List.of();
+        }
+        return roles.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(String.valueOf(role)))
+                .toList();
+    }
+
+    private List<String> toRoles(Collection<? extends GrantedAuthority> authorities) {
+        return authorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+    }
+
+    /**
+     * 캐시에 없으면 파싱 후 캐시에 등록
+     *
+     * @param token JWT 토큰
+     * @return Claims (토큰 페이로드)
+     */
+    private Claims resolveClaims(String token) {
+        Claims cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parseClaims(token);
+        verifiedTokenCache.put(token, claims);
+        return claims;
     }
 
     /**
@@ -110,10 +299,7 @@ public class JwtTokenProvider {
      * @return Claims (토큰 페이로드)
      */
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
+        return jwtParser.parseSignedClaims(token)
                 .getPayload();
     }
 }
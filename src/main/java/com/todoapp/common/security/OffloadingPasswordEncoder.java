@@ -0,0 +1,182 @@
+package com.todoapp.common.security;
+
+import com.todoapp.common.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * BCrypt 같은 CPU 집약적인 해싱을 요청 스레드가 아닌 전용 스레드 풀에서 실행하는 PasswordEncoder
+ * 풀과 대기열 크기를 제한해서 로그인 폭주가 모든 서블릿 스레드의 CPU를 점유하지 못하게 하고,
+ * 대기열이 가득 차면 PasswordHashingBusyException(503)으로 거절한다.
+ *
+ * 대기열 자리가 나기를 얼마나 기다릴지는 admissionWait로 정한다.
+ * 플랫폼 스레드에서는 기다리는 동안 서블릿 스레드를 붙잡으므로 기다리지 않고 바로 거절한다. (0)
+ * 가상 스레드에서는 동시 요청 수가 서블릿 스레드 수로 묶이지 않아 순간적인 몰림에도 대기열이 바로 차므로,
+ * 기다리는 비용이 싼 점을 이용해 timeout 안에서 자리가 날 때까지 기다리게 한다.
+ * 어느 쪽이든 해싱 스레드가 처리할 작업은 threads + queueCapacity개를 넘지 않는다.
+ *
+ * 시간 초과 시 호출한 스레드는 바로 돌려보내고, 아직 대기열에 있던 작업은 대기열에서 빼서 실행하지 않는다.
+ * 이미 실행 중인 BCrypt 계산은 인터럽트에 반응하지 않으므로 끝날 때까지 해싱 스레드 하나를 계속 쓴다.
+ * 그래서 부하를 줄이는 것은 제출 시점의 대기열 제한(AbortPolicy)이고, 시간 초과는 대기열 자리만 돌려준다.
+ */
+@Slf4j
+public class OffloadingPasswordEncoder implements PasswordEncoder, MeterBinder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    // 실행 중 + 대기 중인 작업 수 제한 (작업이 끝나거나 대기열에서 빠질 때 반납)
+    private final Semaphore slots;
+    private final long timeoutMillis;
+    private final long admissionWaitMillis;
+
+    private volatile Timer encodeTimer;
+    private volatile Timer matchesTimer;
+    private volatile Counter rejectedCounter;
+
+    public OffloadingPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout) {
+        this(delegate, threads, queueCapacity, timeout, Duration.ZERO);
+    }
+
+    /**
+     * @param admissionWait 스레드와 대기열이 모두 찼을 때 자리가 나기를 기다리는 최대 시간 (timeout 안에서), 0이면 바로 거절
+     */
+    public OffloadingPasswordEncoder(
+            PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout, Duration admissionWait) {
+        this.delegate = delegate;
+        this.slots = new Semaphore(threads + queueCapacity);
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),  // 크기는 slots로 제한
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy()) {
+            @Override
+            protected void afterExecute(Runnable task, Throwable error) {
+                // 취소되어 실행되지 않고 끝난 작업도 여기를 지난다
+                slots.release();
+            }
+        };
+        this.timeoutMillis = timeout.toMillis();
+        this.admissionWaitMillis = Math.min(admissionWait.toMillis(), timeoutMillis);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> record(encodeTimer, () -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> record(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // 해시 문자열의 cost만 확인하므로 요청 스레드에서 바로 처리
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int queueSize() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        encodeTimer = Timer.builder("password.hashing")
+                .tag("operation", "encode")
+                .register(registry);
+        matchesTimer = Timer.builder("password.hashing")
+                .tag("operation", "matches")
+                .register(registry);
+        rejectedCounter = Counter.builder("password.hashing.rejected")
+                .register(registry);
+        Gauge.builder("password.hashing.queue.size", this, OffloadingPasswordEncoder::queueSize)
+                .register(registry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        long startNanos = System.nanoTime();
+        if (!acquireSlot()) {
+            if (rejectedCounter != null) {
+                rejectedCounter.increment();
+            }
+            log.warn("비밀번호 해싱 대기열이 가득 차서 요청을 거절합니다. queueSize={}", queueSize());
+            throw new PasswordHashingBusyException();
+        }
+
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            slots.release();  // 종료 중
+            throw new PasswordHashingBusyException();
+        }
+
+        try {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis) - (System.nanoTime() - startNanos);
+            return future.get(remainingNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            abandon(future);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException();
+        } catch (TimeoutException e) {
+            abandon(future);
+            log.warn("비밀번호 해싱이 {}ms 안에 끝나지 않았습니다.", timeoutMillis);
+            throw new PasswordHashingBusyException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private boolean acquireSlot() {
+        if (admissionWaitMillis <= 0) {
+            return slots.tryAcquire();
+        }
+        try {
+            return slots.tryAcquire(admissionWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 대기 중인 작업은 대기열에서 빼고, 실행 중인 작업은 결과만 버린다. (BCrypt는 중간에 멈추지 않음)
+    private void abandon(Future<?> future) {
+        future.cancel(false);
+        if (future instanceof Runnable task && executor.remove(task)) {
+            slots.release();  // 실행되지 않으므로 afterExecute도 지나지 않는다
+        }
+    }
+
+    private static <T> T record(Timer timer, Callable<T> task) throws Exception {
+        return timer != null ? timer.recordCallable(task) : task.call();
+    }
+}
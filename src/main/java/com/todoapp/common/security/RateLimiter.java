@@ -0,0 +1,112 @@
+package com.todoapp.common.security;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키별 토큰 버킷 Rate Limiter (GCRA 방식)
+ * 키마다 "다음 요청이 도착해야 할 이론적 시각(TAT)" 하나만 AtomicLong으로 저장하고,
+ * 허용 경로는 CAS 한 번으로 끝나서 락이 필요 없다.
+ *
+ * 추적 중인 키가 maxKeys만큼 차 있으면 새 키는 모두 하나의 공용(overflow) 버킷을 나눠 쓴다.
+ * 키를 대량으로 바꿔 가며 표를 채우는 공격(이메일을 바꿔 가며 시도하는 크리덴셜 스터핑)에서도 제한이 풀리지 않는다.
+ * 대신 그동안 처음 오는 정상 키도 공용 버킷에 묶여 거의 거절된다. (이미 추적 중인 키는 영향 없음)
+ * 키를 해시로 나눈 여러 공용 버킷을 두면 이 영향은 줄지만, 공격자가 모든 버킷을 돌아가며 쓰므로 허용량이 버킷 수만큼 커진다.
+ * 로그인 CPU를 지키는 것이 목적이라 허용량을 늘리지 않는 쪽을 택했다. 사용하지 않는 키는 다음 정리 때 빠지므로 공격이 멈추면 풀린다.
+ *
+ * 사용하지 않는 키 정리는 표 전체를 훑으므로 표가 가득 차 있어도 정리 간격(최소 1초) 안에 한 번만 한다.
+ * 새 키마다 정리하면 공격자의 요청 1건이 서버에는 표 크기만큼의 일이 된다.
+ */
+public class RateLimiter {
+
+    // 표가 가득 찼을 때 정리 사이의 최소 간격
+    private static final long FULL_SWEEP_GAP_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final int maxKeys;
+    private final long sweepIntervalNanos;
+    private final long fullSweepGapNanos;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepAt = new AtomicLong(System.nanoTime());
+    private final AtomicLong overflow = new AtomicLong(System.nanoTime());
+    private final LongAdder sweeps = new LongAdder();
+
+    /**
+     * @param capacity 한 번에 허용하는 최대 요청 수 (버킷 크기)
+     * @param period 버킷이 가득 다시 채워지는 데 걸리는 시간
+     * @param maxKeys 추적할 최대 키 수
+     */
+    public RateLimiter(int capacity, Duration period, int maxKeys) {
+        this.emissionIntervalNanos = period.toNanos() / capacity;
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.maxKeys = maxKeys;
+        this.sweepIntervalNanos = period.toNanos();
+        this.fullSweepGapNanos = Math.min(sweepIntervalNanos, FULL_SWEEP_GAP_NANOS);
+    }
+
+    /**
+     * 요청 1건에 대한 토큰 획득 시도
+     *
+     * @param key 제한 대상 키 (IP, 이메일 등)
+     * @return 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 나노초
+     */
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+
+        AtomicLong tat = buckets.get(key);
+        if (tat == null) {
+            tat = newBucket(key, now);
+        }
+
+        while (true) {
+            long current = tat.get();
+            long newTat = (current - now > 0 ? current : now) + emissionIntervalNanos;
+            long waitNanos = newTat - now - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (tat.compareAndSet(current, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    /**
+     * @return 지금까지 표 전체를 훑어 정리한 횟수
+     */
+    public long sweepCount() {
+        return sweeps.sum();
+    }
+
+    private AtomicLong newBucket(String key, long now) {
+        long sinceSweep = now - lastSweepAt.get();
+        boolean full = buckets.size() >= maxKeys;
+        if (sinceSweep > sweepIntervalNanos || (full && sinceSweep > fullSweepGapNanos)) {
+            sweepIdle(now);
+        }
+        if (buckets.size() >= maxKeys) {
+            // 추적 가능한 키 수를 넘으면 새 키끼리 공용 버킷 하나로 제한 (기존 키의 제한은 그대로)
+            return overflow;
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    /**
+     * 버킷이 가득 찬(TAT가 이미 지난) 키는 새로 만든 버킷과 같으므로 제거해도 동작이 바뀌지 않는다.
+     */
+    private void sweepIdle(long now) {
+        long last = lastSweepAt.get();
+        if (!lastSweepAt.compareAndSet(last, now)) {
+            return;
+        }
+        sweeps.increment();
+        buckets.values().removeIf(tat -> tat.get() - now <= 0);
+    }
+}
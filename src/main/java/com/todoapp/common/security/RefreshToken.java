@@ -0,0 +1,18 @@
+package com.todoapp.common.security;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 Refresh Token 정보
+ *
+ * @param tokenId 토큰 고유 id (jti)
+ * @param familyId 같은 로그인에서 회전으로 이어진 토큰들이 공유하는 id
+ * @param user 새 Access Token 발급에 필요한 사용자 정보
+ * @param expiresAt 만료 시각
+ */
+public record RefreshToken(
+        String tokenId,
+        String familyId,
+        AuthenticatedUser user,
+        Instant expiresAt) {
+}
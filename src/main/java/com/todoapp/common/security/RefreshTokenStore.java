@@ -0,0 +1,51 @@
+package com.todoapp.common.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refresh Token 회전(rotation)에 필요한 상태를 메모리에 보관
+ * - 이미 사용된 토큰 id(jti): 같은 토큰이 두 번 오면 재사용(탈취)으로 판단
+ * - 폐기된 family id: 재사용이 감지되면 같은 로그인에서 이어진 토큰 전체를 폐기
+ * 두 Set 모두 토큰 만료 시각이 지나면 자동으로 비워진다.
+ */
+@Component
+public class RefreshTokenStore {
+
+    private static final int BUCKET_COUNT = 16;
+    private static final int EXPECTED_INSERTIONS_PER_BUCKET = 4096;
+
+    private final ExpiringIdSet usedTokenIds;
+    private final ExpiringIdSet revokedFamilies;
+    private final Duration refreshTokenExpiration;
+
+    public RefreshTokenStore(@Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration) {
+        this.refreshTokenExpiration = Duration.ofMillis(refreshTokenExpiration);
+        Duration bucketWidth = this.refreshTokenExpiration.dividedBy(BUCKET_COUNT);
+        this.usedTokenIds = new ExpiringIdSet(bucketWidth, EXPECTED_INSERTIONS_PER_BUCKET);
+        this.revokedFamilies = new ExpiringIdSet(bucketWidth, EXPECTED_INSERTIONS_PER_BUCKET);
+    }
+
+    /**
+     * 토큰을 사용 처리
+     *
+     * @return 처음 사용이면 true, 이미 사용된 토큰이면 false
+     */
+    public boolean markUsed(RefreshToken refreshToken) {
+        return usedTokenIds.add(refreshToken.tokenId(), refreshToken.expiresAt());
+    }
+
+    public boolean isFamilyRevoked(String familyId) {
+        return revokedFamilies.contains(familyId);
+    }
+
+    /**
+     * family 폐기
+     * 회전할 때마다 만료 시각이 늘어나므로, 지금 발급될 수 있는 가장 늦은 만료 시각까지 보관한다.
+     */
+    public void revokeFamily(String familyId) {
+        revokedFamilies.add(familyId, Instant.now().plus(refreshTokenExpiration));
+    }
+}
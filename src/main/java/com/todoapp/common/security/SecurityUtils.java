@@ -17,6 +17,12 @@ public class SecurityUtils {
             throw new IllegalArgumentException("인증된 사용자가 없습니다");
         }
 
+        // JWT 인증은 모드와 관계없이 AuthenticatedUser (Stateless면 토큰 Claim으로, 아니면 UserPrincipalCache를 거쳐 만든다)
+        if (authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.userId();
+        }
+
+        // 로그인 처리(DaoAuthenticationProvider)나 테스트에서 직접 넣은 인증
         if (authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
             return userDetails.getUserId();
         }
@@ -0,0 +1,43 @@
+package com.todoapp.common.security;
+
+import com.todoapp.common.cache.BoundedCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이메일을 키로 AuthenticatedUser를 보관하는 캐시
+ * JWT 필터가 요청마다 users 테이블을 조회하지 않도록 CustomUserDetailService 앞에 둔다.
+ * 사용자 정보가 바뀌면 UserService에서 명시적으로 무효화한다.
+ */
+@Component
+public class UserPrincipalCache implements MeterBinder {
+
+    private final BoundedCache<String, AuthenticatedUser> cache;
+
+    public UserPrincipalCache(
+            @Value("${security.user-cache.enabled:true}") boolean enabled,
+            @Value("${security.user-cache.max-size:10000}") int maxSize,
+            @Value("${security.user-cache.ttl:5m}") Duration ttl) {
+        this.cache = new BoundedCache<>(enabled ? maxSize : 0, ttl);
+    }
+
+    public AuthenticatedUser get(String email) {
+        return cache.get(email);
+    }
+
+    public void put(AuthenticatedUser principal) {
+        cache.put(principal.email(), principal);
+    }
+
+    public void invalidate(String email) {
+        cache.invalidate(email);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cache.bindTo(registry, "userPrincipal");
+    }
+}
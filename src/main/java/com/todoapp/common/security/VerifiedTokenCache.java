@@ -0,0 +1,87 @@
+package com.todoapp.common.security;
+
+import io.jsonwebtoken.Claims;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서명 검증을 통과한 토큰의 Claims를 토큰 만료 시각까지 보관하는 캐시
+ * 토큰 원문 대신 SHA-256 digest를 키로 사용해 메모리에 Bearer 토큰이 남지 않도록 한다.
+ */
+class VerifiedTokenCache {
+
+    private static final long SWEEP_INTERVAL_MILLIS = 1000L;
+
+    private final int maxSize;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepAt = new AtomicLong();
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    Claims get(String token) {
+        if (maxSize <= 0) {
+            return null;
+        }
+
+        String key = digest(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        // 만료된 토큰은 캐시에서 제거하고 다시 파싱하게 해서 ExpiredJwtException 흐름을 그대로 탄다
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.claims();
+    }
+
+    void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (maxSize <= 0 || expiration == null) {
+            return;
+        }
+
+        if (entries.size() >= maxSize) {
+            sweepExpired();
+            // 살아있는 토큰으로 가득 찼으면 캐시하지 않는다 (다음 요청에서 다시 검증)
+            if (entries.size() >= maxSize) {
+                return;
+            }
+        }
+        entries.put(digest(token), new Entry(claims, expiration.getTime()));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void sweepExpired() {
+        long now = System.currentTimeMillis();
+        long last = lastSweepAt.get();
+        if (now - last < SWEEP_INTERVAL_MILLIS || !lastSweepAt.compareAndSet(last, now)) {
+            return;
+        }
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record Entry(Claims claims, long expiresAt) {
+    }
+}
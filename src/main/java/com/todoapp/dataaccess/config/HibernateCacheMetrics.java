@@ -0,0 +1,43 @@
+package com.todoapp.dataaccess.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate 2차 캐시 / 쿼리 캐시 적중 지표
+ * hibernate.generate_statistics가 켜져 있을 때만 값이 쌓인다. (todo.cache.enabled)
+ */
+@Component
+public class HibernateCacheMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public HibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("hibernate.cache.gets", statistics, Statistics::getSecondLevelCacheHitCount)
+                .tag("cache", "second-level")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("hibernate.cache.gets", statistics, Statistics::getSecondLevelCacheMissCount)
+                .tag("cache", "second-level")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("hibernate.cache.gets", statistics, Statistics::getQueryCacheHitCount)
+                .tag("cache", "query")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("hibernate.cache.gets", statistics, Statistics::getQueryCacheMissCount)
+                .tag("cache", "query")
+                .tag("result", "miss")
+                .register(registry);
+    }
+}
@@ -1,15 +1,56 @@
 package com.todoapp.dataaccess.config;
 
+import com.todoapp.common.security.OffloadingPasswordEncoder;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 
 @Configuration
 public class PasswordEncoderConfig {
 
+    private static final String BCRYPT = "bcrypt";
+
+    /**
+     * BCrypt 해싱은 전용 스레드 풀에서 실행
+     * 새 해시는 {bcrypt} 접두사를 붙여 저장하고, 로그인 성공 시 아래 해시는 새 해시로 재해싱된다.
+     * - 접두사 없이 저장된 예전 BCrypt 해시
+     * - 다른 알고리즘({pbkdf2})으로 저장된 해시
+     * - strength보다 낮은 cost의 BCrypt 해시
+     *
+     * 대기열이 찼을 때 기다리는 시간(admission-wait)을 정하지 않으면
+     * 가상 스레드 모드에서는 timeout까지 기다리고, 플랫폼 스레드 모드에서는 바로 거절한다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public OffloadingPasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt-strength:10}") int strength,
+            @Value("${security.password.hashing.threads:0}") int threads,
+            @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.hashing.timeout:5s}") Duration timeout,
+            @Value("${security.password.hashing.admission-wait:#{null}}") Duration admissionWait,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        if (admissionWait == null) {
+            admissionWait = virtualThreads ? timeout : Duration.ZERO;
+        }
+        return new OffloadingPasswordEncoder(
+                delegatingPasswordEncoder(strength), poolSize, queueCapacity, timeout, admissionWait);
+    }
+
+    private static PasswordEncoder delegatingPasswordEncoder(int strength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        Map<String, PasswordEncoder> encoders = Map.of(
+                BCRYPT, bcrypt,
+                "pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(BCRYPT, encoders);
+        // 접두사가 없는 해시는 접두사 도입 전에 저장된 BCrypt 해시
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegating;
     }
 }
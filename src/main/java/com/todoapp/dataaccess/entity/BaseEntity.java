@@ -10,7 +10,8 @@ import lombok.Getter;
 @MappedSuperclass
 public abstract class BaseEntity {
 
+    // 엔티티별 시퀀스에서 id를 미리 할당(pooled)받아 INSERT를 JDBC 배치로 묶을 수 있게 한다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 }
@@ -1,17 +1,36 @@
 package com.todoapp.dataaccess.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.Instant;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(indexes = {
+        // 사용자별 최신순 Keyset 페이지네이션
+        @Index(name = "idx_todo_user_created_id", columnList = "user_id, created_date, id"),
+        // 목록 필터 (완료 여부 + 생성 시각, 수정 시각, 제목 접두사)
+        @Index(name = "idx_todo_user_completed_created", columnList = "user_id, completed, created_date"),
+        @Index(name = "idx_todo_user_updated", columnList = "user_id, updated_date"),
+        @Index(name = "idx_todo_user_title", columnList = "user_id, title"),
+        // 델타 동기화 (변경 순번 이후의 Todo만 읽기)
+        @Index(name = "idx_todo_user_change_seq", columnList = "user_id, change_seq")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Todo extends BaseTimeEntity {
 
@@ -22,6 +41,18 @@ public class Todo extends BaseTimeEntity {
 
     private boolean completed;
 
+    // 처음 완료된 시각 (일별 완료 통계의 기준, 미완료면 null)
+    private Instant completedAt;
+
+    // 버전 - 수정할 때마다 1씩 증가, If-Match 비교에 사용
+    // 비교는 UPDATE 문 안에서 하지만, 쓰기는 사용자별 순번 행을 커밋까지 잠근다. (TodoChangeSequencer)
+    @Version
+    private Long version;
+
+    // 마지막으로 바뀐 시점의 사용자별 변경 순번 (UserChangeSequence)
+    @Column(nullable = false)
+    private long changeSeq;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -36,6 +67,9 @@ public class Todo extends BaseTimeEntity {
 
     public void complete() {
         this.completed = true;
+        if (this.completedAt == null) {
+            this.completedAt = Instant.now();
+        }
     }
 
     public void updateTitle(String title) {
@@ -46,6 +80,10 @@ public class Todo extends BaseTimeEntity {
         this.description = description;
     }
 
+    public void markChanged(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
     public boolean isOwnedBy(Long userId) {
         return this.user.getId().equals(userId);
     }
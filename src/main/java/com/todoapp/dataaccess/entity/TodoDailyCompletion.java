@@ -0,0 +1,37 @@
+package com.todoapp.dataaccess.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 일별 완료 수 (대시보드 통계용)
+ * 완료한 날짜(Todo.completedAt 기준)마다 한 행, (user_id, completed_on) 유니크 인덱스로 기간 조회한다.
+ */
+@Getter
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_todo_daily_completion_user_day", columnNames = {"user_id", "completed_on"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TodoDailyCompletion extends BaseEntity {
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDate completedOn;
+
+    @Column(nullable = false)
+    private long completions;
+
+    public TodoDailyCompletion(Long userId, LocalDate completedOn, long completions) {
+        this.userId = userId;
+        this.completedOn = completedOn;
+        this.completions = completions;
+    }
+}
@@ -0,0 +1,33 @@
+package com.todoapp.dataaccess.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 Todo 개수 (대시보드 통계용)
+ * Todo 생성/완료/삭제와 같은 트랜잭션에서 증감하고, 어긋난 값은 주기적으로 다시 센다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TodoStats {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private long totalCount;
+
+    @Column(nullable = false)
+    private long completedCount;
+
+    public TodoStats(Long userId, long totalCount, long completedCount) {
+        this.userId = userId;
+        this.totalCount = totalCount;
+        this.completedCount = completedCount;
+    }
+}
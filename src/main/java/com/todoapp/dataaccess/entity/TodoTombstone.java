@@ -0,0 +1,47 @@
+package com.todoapp.dataaccess.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 삭제된 Todo 기록 (델타 동기화용)
+ * Todo 행은 그대로 삭제하고, 클라이언트가 삭제를 알 수 있도록 id와 변경 순번만 남긴다.
+ * 사용자 삭제를 막지 않도록 users와 외래 키로 묶지 않는다.
+ * 보관 기간(todo.sync.tombstone-retention)이 지나면 TodoTombstonePurger가 지운다.
+ */
+@Getter
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_todo_tombstone_user_seq", columnList = "user_id, change_seq"),
+        @Index(name = "idx_todo_tombstone_deleted_at", columnList = "deleted_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TodoTombstone extends BaseEntity {
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long todoId;
+
+    @Column(nullable = false)
+    private long changeSeq;
+
+    @Column(nullable = false)
+    private Instant deletedAt;
+
+    @Builder
+    public TodoTombstone(Long userId, Long todoId, long changeSeq, Instant deletedAt) {
+        this.userId = userId;
+        this.todoId = todoId;
+        this.changeSeq = changeSeq;
+        this.deletedAt = deletedAt;
+    }
+}
@@ -0,0 +1,29 @@
+package com.todoapp.dataaccess.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 마지막 Todo 변경 순번 (델타 동기화용)
+ * 쓰기마다 1씩 올리며, 올린 행은 커밋까지 잠기므로 같은 사용자의 순번은 커밋 순서대로 증가한다.
+ * User 행을 고치면 User 2차 캐시까지 무효화되므로 별도 테이블에 둔다.
+ * purgedSeq 이하의 삭제 기록은 보관 기간이 지나 지워졌으므로, 그보다 오래된 동기화 토큰은 전체 목록을 다시 받아야 한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserChangeSequence {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private long lastSeq;
+
+    @Column(nullable = false)
+    private long purgedSeq;
+}
@@ -0,0 +1,12 @@
+package com.todoapp.dataaccess.projection;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 완료 수 조회 전용 Projection
+ */
+public record DailyCompletionView(
+        LocalDate completedOn,
+        long completions
+) {
+}
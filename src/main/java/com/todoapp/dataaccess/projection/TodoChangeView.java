@@ -0,0 +1,22 @@
+package com.todoapp.dataaccess.projection;
+
+import java.time.Instant;
+
+/**
+ * 델타 동기화용 Projection - TodoView에 변경 순번을 더한 것
+ */
+public record TodoChangeView(
+        Long id,
+        String title,
+        String description,
+        boolean completed,
+        Instant createdDate,
+        Instant updatedDate,
+        Long version,
+        long changeSeq
+) {
+
+    public TodoView toView() {
+        return new TodoView(id, title, description, completed, createdDate, updatedDate, version);
+    }
+}
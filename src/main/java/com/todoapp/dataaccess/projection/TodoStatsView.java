@@ -0,0 +1,11 @@
+package com.todoapp.dataaccess.projection;
+
+/**
+ * Todo 통계 카운터 조회 전용 Projection
+ * 카운터는 UPDATE 쿼리로 증감하므로 영속성 컨텍스트의 엔티티가 아니라 항상 DB 값을 읽는다.
+ */
+public record TodoStatsView(
+        long totalCount,
+        long completedCount
+) {
+}
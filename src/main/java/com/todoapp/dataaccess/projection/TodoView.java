@@ -0,0 +1,18 @@
+package com.todoapp.dataaccess.projection;
+
+import java.time.Instant;
+
+/**
+ * Todo 조회 전용 Projection
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 읽는다.
+ */
+public record TodoView(
+        Long id,
+        String title,
+        String description,
+        boolean completed,
+        Instant createdDate,
+        Instant updatedDate,
+        Long version
+) {
+}
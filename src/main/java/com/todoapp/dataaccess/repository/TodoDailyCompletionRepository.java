@@ -0,0 +1,53 @@
+package com.todoapp.dataaccess.repository;
+
+import com.todoapp.dataaccess.entity.TodoDailyCompletion;
+import com.todoapp.dataaccess.projection.DailyCompletionView;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TodoDailyCompletionRepository extends JpaRepository<TodoDailyCompletion, Long> {
+
+    /**
+     * 해당 날짜의 완료 수 증감 - UPDATE 1번
+     *
+     * @return 수정된 행 수 (0이면 아직 행이 없음)
+     */
+    @Modifying
+    @Query("""
+            update TodoDailyCompletion d
+            set d.completions = d.completions + :delta
+            where d.userId = :userId and d.completedOn = :day
+            """)
+    int add(@Param("userId") Long userId, @Param("day") LocalDate day, @Param("delta") long delta);
+
+    /**
+     * 기간 조회 - (user_id, completed_on) 인덱스 범위 검색
+     */
+    @Query("""
+            select new com.todoapp.dataaccess.projection.DailyCompletionView(d.completedOn, d.completions)
+            from TodoDailyCompletion d
+            where d.userId = :userId and d.completedOn between :from and :to
+            order by d.completedOn
+            """)
+    List<DailyCompletionView> findAllBetween(
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    /**
+     * 보관 기간이 지난 행 삭제
+     */
+    @Modifying
+    @Query("delete from TodoDailyCompletion d where d.userId = :userId and d.completedOn < :before")
+    int deleteAllBefore(@Param("userId") Long userId, @Param("before") LocalDate before);
+
+    @Modifying
+    @Query("delete from TodoDailyCompletion d where d.userId = :userId and d.completedOn = :day")
+    int deleteDay(@Param("userId") Long userId, @Param("day") LocalDate day);
+}
@@ -0,0 +1,33 @@
+package com.todoapp.dataaccess.repository;
+
+import java.time.Instant;
+
+/**
+ * Todo 목록 필터 조건 - null인 항목은 조건에서 제외
+ *
+ * @param completed 완료 여부
+ * @param createdFrom 생성 시각 시작 (포함)
+ * @param createdTo 생성 시각 끝 (미포함)
+ * @param updatedFrom 수정 시각 시작 (포함)
+ * @param updatedTo 수정 시각 끝 (미포함)
+ * @param titlePrefix 제목 접두사 (대소문자 구분)
+ * @param sort 정렬 기준, null이면 최신 생성순
+ */
+public record TodoFilter(
+        Boolean completed,
+        Instant createdFrom,
+        Instant createdTo,
+        Instant updatedFrom,
+        Instant updatedTo,
+        String titlePrefix,
+        TodoSort sort
+) {
+
+    public boolean isEmpty() {
+        return completed == null
+                && createdFrom == null && createdTo == null
+                && updatedFrom == null && updatedTo == null
+                && (titlePrefix == null || titlePrefix.isEmpty())
+                && sort == null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.todoapp.dataaccess.repository;
+
+import com.todoapp.dataaccess.projection.TodoView;
+import java.util.List;
+
+/**
+ * 조건이 동적으로 바뀌는 Todo 조회 (TodoRepository에 합쳐서 사용)
+ */
+public interface TodoQueryRepository {
+
+    List<TodoView> findAllViews(Long userId, TodoFilter filter);
+}
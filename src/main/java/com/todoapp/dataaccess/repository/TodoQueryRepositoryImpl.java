@@ -0,0 +1,81 @@
+package com.todoapp.dataaccess.repository;
+
+import com.todoapp.dataaccess.entity.Todo;
+import com.todoapp.dataaccess.projection.TodoView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 필터 조건을 Criteria로 조립
+ * 조건 조합마다 사용할 수 있도록 todo 테이블에 (user_id, ...) 복합 인덱스를 선언해 두었다. (Todo 엔티티 참고)
+ */
+@RequiredArgsConstructor
+class TodoQueryRepositoryImpl implements TodoQueryRepository {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<TodoView> findAllViews(Long userId, TodoFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TodoView> query = cb.createQuery(TodoView.class);
+        Root<Todo> todo = query.from(Todo.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(todo.get("user").get("id"), userId));
+
+        if (filter.completed() != null) {
+            predicates.add(cb.equal(todo.get("completed"), filter.completed()));
+        }
+        if (filter.createdFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(todo.get("createdDate"), filter.createdFrom()));
+        }
+        if (filter.createdTo() != null) {
+            predicates.add(cb.lessThan(todo.get("createdDate"), filter.createdTo()));
+        }
+        if (filter.updatedFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(todo.get("updatedDate"), filter.updatedFrom()));
+        }
+        if (filter.updatedTo() != null) {
+            predicates.add(cb.lessThan(todo.get("updatedDate"), filter.updatedTo()));
+        }
+        if (filter.titlePrefix() != null && !filter.titlePrefix().isEmpty()) {
+            // 앞부분 일치만 허용해야 (user_id, title) 인덱스 범위 검색이 가능하다
+            predicates.add(cb.like(todo.get("title"), escapeLike(filter.titlePrefix()) + "%", LIKE_ESCAPE));
+        }
+
+        query.select(cb.construct(TodoView.class,
+                        todo.get("id"),
+                        todo.get("title"),
+                        todo.get("description"),
+                        todo.get("completed"),
+                        todo.get("createdDate"),
+                        todo.get("updatedDate"),
+                        todo.get("version")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(orderOf(cb, todo, filter.sort()));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private static List<Order> orderOf(CriteriaBuilder cb, Root<Todo> todo, TodoSort sort) {
+        return switch (sort == null ? TodoSort.CREATED_DESC : sort) {
+            case CREATED_DESC -> List.of(cb.desc(todo.get("createdDate")), cb.desc(todo.get("id")));
+            case CREATED_ASC -> List.of(cb.asc(todo.get("createdDate")), cb.asc(todo.get("id")));
+            case UPDATED_DESC -> List.of(cb.desc(todo.get("updatedDate")), cb.desc(todo.get("id")));
+            case TITLE_ASC -> List.of(cb.asc(todo.get("title")), cb.asc(todo.get("id")));
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
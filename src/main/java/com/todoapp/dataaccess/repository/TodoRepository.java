@@ -1,14 +1,249 @@
 package com.todoapp.dataaccess.repository;
 
 import com.todoapp.dataaccess.entity.Todo;
+import com.todoapp.dataaccess.projection.TodoChangeView;
+import com.todoapp.dataaccess.projection.TodoView;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TodoRepository extends JpaRepository<Todo, Long> {
-    List<Todo> findAllByUserId(Long id);
+public interface TodoRepository extends JpaRepository<Todo, Long>, TodoQueryRepository {
+    /**
+     * 조회 전용 - TodoResponse에 필요한 컬럼만 읽고 엔티티는 만들지 않는다.
+     * 필터 없는 목록도 TodoFilter 기본 정렬(CREATED_DESC)과 같은 순서 - (user_id, created_date, id) 인덱스 사용
+     */
+    @Query("""
+            select new com.todoapp.dataaccess.projection.TodoView(
+                t.id, t.title, t.description, t.completed, t.createdDate, t.updatedDate, t.version)
+            from Todo t
+            where t.user.id = :userId
+            order by t.createdDate desc, t.id desc
+            """)
+    List<TodoView> findAllViewsByUserId(@Param("userId") Long userId);
 
-    Optional<Todo> findOwnedTodoByIdAndUserId(Long id, Long userId);
+    /**
+     * 사용자 본인 소유인 Todo 중 주어진 id만 조회 (검색 인덱스 갱신용)
+     */
+    @Query("""
+            select new com.todoapp.dataaccess.projection.TodoView(
+                t.id, t.title, t.description, t.completed, t.createdDate, t.updatedDate, t.version)
+            from Todo t
+            where t.user.id = :userId and t.id in :ids
+            """)
+    List<TodoView> findViewsByIdsAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    // 단건 소유 확인 조회는 쿼리 캐시 사용, todo 테이블에 쓰기가 있으면 Hibernate가 자동으로 무효화
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("""
+            select new com.todoapp.dataaccess.projection.TodoView(
+                t.id, t.title, t.description, t.completed, t.createdDate, t.updatedDate, t.version)
+            from Todo t
+            where t.id = :id and t.user.id = :userId
+            """)
+    Optional<TodoView> findOwnedViewByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    // 단건 ETag 비교용 - 본문 없이 버전만 (쿼리 캐시)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select t.version from Todo t where t.id = :id and t.user.id = :userId")
+    Optional<Long> findOwnedVersionByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Keyset 페이지네이션 첫 페이지 (최신순)
+     */
+    @Query("""
+            select new com.todoapp.dataaccess.projection.TodoView(
+                t.id, t.title, t.description, t.completed, t.createdDate, t.updatedDate, t.version)
+            from Todo t
+            where t.user.id = :userId
+            order by t.createdDate desc, t.id desc
+            """)
+    List<TodoView> findFirstPage(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * Keyset 페이지네이션 다음 페이지
+     * OFFSET 없이 (user_id, created_date, id) 인덱스에서 커서 위치부터 바로 읽으므로 페이지 깊이와 무관하게 일정한 비용
+     */
+    @Query("""
+            select new com.todoapp.dataaccess.projection.TodoView(
+                t.id, t.title, t.description, t.completed, t.createdDate, t.updatedDate, t.version)
+            from Todo t
+            where t.user.id = :userId
+              and (t.createdDate < :createdDate
+                   or (t.createdDate = :createdDate and t.id < :id))
+            order by t.createdDate desc, t.id desc
+            """)
+    List<TodoView> findPageAfter(
+            @Param("userId") Long userId,
+            @Param("createdDate") Instant createdDate,
+            @Param("id") Long id,
+            Limit limit);
+
+    /**
+     * 델타 동기화 - (since, upTo] 구간에 바뀐 Todo를 순번 순으로
+     * (user_id, change_seq) 인덱스 범위 검색이라 전체 Todo 수가 아니라 변경 수에 비례한다.
+     */
+    @Query("""
+            select new com.todoapp.dataaccess.projection.TodoChangeView(
+                t.id, t.title, t.description, t.completed, t.createdDate, t.updatedDate, t.version, t.changeSeq)
+            from Todo t
+            where t.user.id = :userId and t.changeSeq > :since and t.changeSeq <= :upTo
+            order by t.changeSeq, t.id
+            """)
+    List<TodoChangeView> findChanges(
+            @Param("userId") Long userId,
+            @Param("since") long since,
+            @Param("upTo") long upTo,
+            Limit limit);
+
+    @Query("""
+            select new com.todoapp.dataaccess.projection.TodoChangeView(
+                t.id, t.title, t.description, t.completed, t.createdDate, t.updatedDate, t.version, t.changeSeq)
+            from Todo t
+            where t.user.id = :userId and t.changeSeq = :changeSeq
+            order by t.id
+            """)
+    List<TodoChangeView> findAllByChangeSeq(@Param("userId") Long userId, @Param("changeSeq") long changeSeq);
+
+    /**
+     * 내보내기용 스트림 조회
+     * 전체 결과를 한 번에 List로 만들지 않고 fetch size 단위로 커서를 읽는다.
+     * Projection이라 영속성 컨텍스트에 쌓이지 않는다.
+     * 반드시 트랜잭션 안에서 사용하고 다 쓰면 close 해야 한다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "256"))
+    @Query("""
+            select new com.todoapp.dataaccess.projection.TodoView(
+                t.id, t.title, t.description, t.completed, t.createdDate, t.updatedDate, t.version)
+            from Todo t
+            where t.user.id = :userId
+            order by t.createdDate desc, t.id desc
+            """)
+    Stream<TodoView> streamAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * 제목/설명 수정 - UPDATE 1번, null 파라미터는 기존 값 유지
+     * anyVersion이 false면 현재 버전이 versions 중 하나일 때만 수정한다. (비교와 교체를 이 UPDATE 한 문장에서 처리)
+     * 호출하는 쪽은 먼저 사용자별 순번 행을 잠그므로 같은 사용자의 쓰기는 이 문장에 오기 전에 차례를 기다린다.
+     * 버전 비교에는 별도 락이 없지만, 호출 전에 TodoChangeSequencer.next()가 사용자 순번 행을 커밋까지 잠근다.
+     *
+     * @return 수정된 행 수 (0이면 없거나 본인 소유가 아니거나 버전 불일치)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Todo t
+            set t.title = coalesce(:title, t.title),
+                t.description = coalesce(:description, t.description),
+                t.updatedDate = :now,
+                t.version = t.version + 1,
+                t.changeSeq = :changeSeq
+            where t.id = :id and t.user.id = :userId
+              and (:anyVersion = true or t.version in :versions)
+            """)
+    int updateByIdAndUserId(
+            @Param("id") Long id,
+            @Param("userId") Long userId,
+            @Param("title") String title,
+            @Param("description") String description,
+            @Param("anyVersion") boolean anyVersion,
+            @Param("versions") Collection<Long> versions,
+            @Param("now") Instant now,
+            @Param("changeSeq") long changeSeq);
+
+    /**
+     * 완료 처리 - UPDATE 1번
+     * anyVersion이 false면 현재 버전이 versions 중 하나일 때만 수정한다.
+     *
+     * @return 수정된 행 수 (0이면 없거나 본인 소유가 아니거나 버전 불일치)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Todo t
+            set t.completed = true, t.completedAt = coalesce(t.completedAt, :now),
+                t.updatedDate = :now, t.version = t.version + 1, t.changeSeq = :changeSeq
+            where t.id = :id and t.user.id = :userId
+              and (:anyVersion = true or t.version in :versions)
+            """)
+    int completeByIdAndUserId(
+            @Param("id") Long id,
+            @Param("userId") Long userId,
+            @Param("anyVersion") boolean anyVersion,
+            @Param("versions") Collection<Long> versions,
+            @Param("now") Instant now,
+            @Param("changeSeq") long changeSeq);
+
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    long countByUserId(Long userId);
+
+    long countByUserIdAndCompletedTrue(Long userId);
+
+    /**
+     * 주어진 id 중 이미 완료된 Todo의 완료 시각 (통계 증감 계산용)
+     * 완료 시각이 없는 예전 데이터는 null로 들어온다.
+     */
+    @Query("""
+            select t.completedAt from Todo t
+            where t.user.id = :userId and t.id in :ids and t.completed = true
+            """)
+    List<Instant> findCompletedAtsByIdsAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    /**
+     * from 이후에 완료된 Todo의 완료 시각 (통계 보정용)
+     */
+    @Query("""
+            select t.completedAt from Todo t
+            where t.user.id = :userId and t.completed = true and t.completedAt >= :from
+            """)
+    List<Instant> findCompletedAtsSince(@Param("userId") Long userId, @Param("from") Instant from);
+
+    /**
+     * 삭제 - DELETE 1번
+     *
+     * @return 삭제된 행 수 (0이면 없거나 본인 소유가 아님)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Todo t where t.id = :id and t.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * 일괄 처리 대상 중 사용자 본인 소유인 id만 조회
+     */
+    @Query("select t.id from Todo t where t.user.id = :userId and t.id in :ids")
+    List<Long> findOwnedIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * 일괄 완료 처리 - UPDATE 1번
+     * 벌크 연산은 Auditing을 거치지 않으므로 수정 시각을 직접 넣는다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Todo t
+            set t.completed = true, t.completedAt = coalesce(t.completedAt, :now),
+                t.updatedDate = :now, t.version = t.version + 1, t.changeSeq = :changeSeq
+            where t.user.id = :userId and t.id in :ids
+            """)
+    int completeAllByIdsAndUserId(
+            @Param("ids") Collection<Long> ids,
+            @Param("userId") Long userId,
+            @Param("now") Instant now,
+            @Param("changeSeq") long changeSeq);
+
+    /**
+     * 일괄 삭제 - DELETE 1번
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Todo t where t.user.id = :userId and t.id in :ids")
+    int deleteAllByIdsAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
 }
@@ -0,0 +1,12 @@
+package com.todoapp.dataaccess.repository;
+
+/**
+ * Todo 목록 정렬 기준
+ * 동률은 항상 id로 정렬해서 결과 순서가 바뀌지 않게 한다.
+ */
+public enum TodoSort {
+    CREATED_DESC,
+    CREATED_ASC,
+    UPDATED_DESC,
+    TITLE_ASC
+}
@@ -0,0 +1,53 @@
+package com.todoapp.dataaccess.repository;
+
+import com.todoapp.dataaccess.entity.TodoStats;
+import com.todoapp.dataaccess.projection.TodoStatsView;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TodoStatsRepository extends JpaRepository<TodoStats, Long> {
+
+    @Query("""
+            select new com.todoapp.dataaccess.projection.TodoStatsView(s.totalCount, s.completedCount)
+            from TodoStats s
+            where s.userId = :userId
+            """)
+    Optional<TodoStatsView> findViewByUserId(@Param("userId") Long userId);
+
+    /**
+     * 개수 증감 - UPDATE 1번
+     *
+     * @return 수정된 행 수 (0이면 아직 행이 없음)
+     */
+    @Modifying
+    @Query("""
+            update TodoStats s
+            set s.totalCount = s.totalCount + :total, s.completedCount = s.completedCount + :completed
+            where s.userId = :userId
+            """)
+    int add(@Param("userId") Long userId, @Param("total") long total, @Param("completed") long completed);
+
+    /**
+     * 다시 센 값으로 교체 (보정 작업용)
+     */
+    @Modifying
+    @Query("""
+            update TodoStats s
+            set s.totalCount = :total, s.completedCount = :completed
+            where s.userId = :userId
+            """)
+    int overwrite(@Param("userId") Long userId, @Param("total") long total, @Param("completed") long completed);
+
+    /**
+     * 보정 대상 사용자 id (id 순 Keyset)
+     */
+    @Query("select s.userId from TodoStats s where s.userId > :after order by s.userId")
+    List<Long> findUserIdsAfter(@Param("after") Long after, Limit limit);
+}
@@ -0,0 +1,58 @@
+package com.todoapp.dataaccess.repository;
+
+import com.todoapp.dataaccess.entity.TodoTombstone;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TodoTombstoneRepository extends JpaRepository<TodoTombstone, Long> {
+
+    /**
+     * (since, upTo] 구간의 삭제 기록 - 순번 순, (user_id, change_seq) 인덱스 범위 검색
+     */
+    @Query("""
+            select t from TodoTombstone t
+            where t.userId = :userId and t.changeSeq > :since and t.changeSeq <= :upTo
+            order by t.changeSeq, t.todoId
+            """)
+    List<TodoTombstone> findChanges(
+            @Param("userId") Long userId,
+            @Param("since") long since,
+            @Param("upTo") long upTo,
+            Limit limit);
+
+    @Query("select t from TodoTombstone t where t.userId = :userId and t.changeSeq = :changeSeq order by t.todoId")
+    List<TodoTombstone> findAllByChangeSeq(@Param("userId") Long userId, @Param("changeSeq") long changeSeq);
+
+    /**
+     * before 전에 삭제된 기록이 있는 사용자 id - after보다 큰 id 순, deleted_at 인덱스 범위 검색
+     */
+    @Query("""
+            select distinct t.userId from TodoTombstone t
+            where t.deletedAt < :before and t.userId > :after
+            order by t.userId
+            """)
+    List<Long> findUserIdsDeletedBefore(@Param("before") Instant before, @Param("after") long after, Limit limit);
+
+    /**
+     * before 전에 삭제된 기록 중 마지막 순번
+     */
+    @Query("select max(t.changeSeq) from TodoTombstone t where t.userId = :userId and t.deletedAt < :before")
+    Optional<Long> findLastChangeSeqDeletedBefore(@Param("userId") Long userId, @Param("before") Instant before);
+
+    /**
+     * upTo 이하 순번의 삭제 기록 삭제
+     *
+     * @return 지운 행 수
+     */
+    @Modifying
+    @Query("delete from TodoTombstone t where t.userId = :userId and t.changeSeq <= :upTo")
+    int deleteUpTo(@Param("userId") Long userId, @Param("upTo") long upTo);
+}
@@ -0,0 +1,57 @@
+package com.todoapp.dataaccess.repository;
+
+import com.todoapp.dataaccess.entity.UserChangeSequence;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserChangeSequenceRepository extends JpaRepository<UserChangeSequence, Long> {
+
+    /**
+     * 순번 1 증가 - 행이 커밋까지 잠긴다.
+     *
+     * @return 수정된 행 수 (0이면 아직 행이 없음)
+     */
+    @Modifying
+    @Query("update UserChangeSequence s set s.lastSeq = s.lastSeq + 1 where s.userId = :userId")
+    int increment(@Param("userId") Long userId);
+
+    /**
+     * 순번 0으로 행 생성 (이미 있으면 아무것도 하지 않음)
+     * 다른 트랜잭션이 아직 커밋하지 않은 행은 보이지 않으므로, 동시에 호출되지 않도록 호출하는 쪽에서 막아야 한다.
+     */
+    @Modifying
+    @Query("""
+            insert into UserChangeSequence (userId, lastSeq, purgedSeq)
+            select u.id, 0L, 0L from User u
+            where u.id = :userId
+              and not exists (select 1 from UserChangeSequence s where s.userId = :userId)
+            """)
+    int insertIfAbsent(@Param("userId") Long userId);
+
+    /**
+     * 순번은 올리지 않고 행만 잠근다. (커밋까지 해당 사용자의 Todo 쓰기가 대기)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UserChangeSequence s where s.userId = :userId")
+    Optional<UserChangeSequence> findForUpdate(@Param("userId") Long userId);
+
+    @Query("select s.lastSeq from UserChangeSequence s where s.userId = :userId")
+    Optional<Long> findLastSeq(@Param("userId") Long userId);
+
+    @Query("select s.purgedSeq from UserChangeSequence s where s.userId = :userId")
+    Optional<Long> findPurgedSeq(@Param("userId") Long userId);
+
+    /**
+     * 지운 삭제 기록의 마지막 순번 기록 (더 작은 값으로는 되돌리지 않는다) - 행이 커밋까지 잠긴다.
+     */
+    @Modifying
+    @Query("update UserChangeSequence s set s.purgedSeq = :seq where s.userId = :userId and s.purgedSeq < :seq")
+    int raisePurgedSeq(@Param("userId") Long userId, @Param("seq") long seq);
+}
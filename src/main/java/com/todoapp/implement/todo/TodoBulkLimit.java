@@ -0,0 +1,27 @@
+package com.todoapp.implement.todo;
+
+import com.todoapp.common.exception.BulkSizeExceededException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일괄 처리 요청 1번에 허용하는 최대 개수
+ */
+@Component
+public class TodoBulkLimit {
+
+    private final int maxSize;
+
+    public TodoBulkLimit(@Value("${todo.bulk.max-size:500}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @throws BulkSizeExceededException size가 최대 개수를 넘는 경우
+     */
+    public void check(int size) {
+        if (size > maxSize) {
+            throw new BulkSizeExceededException(maxSize);
+        }
+    }
+}
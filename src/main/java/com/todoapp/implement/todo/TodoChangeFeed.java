@@ -0,0 +1,458 @@
+package com.todoapp.implement.todo;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Todo 변경 알림 (Server-Sent Events)
+ * 커밋된 생성/수정/완료/삭제를 같은 사용자의 열린 연결 모두에 보낸다.
+ *
+ * 연결마다 크기가 정해진 전송 대기열을 두고 가상 스레드가 비운다.
+ * 전송이 막힌 연결은 자기 가상 스레드만 붙잡고, 다른 연결의 전송은 기다리지 않는다.
+ * 대기열이 가득 찰 만큼 느리거나 전송 하나가 send-timeout을 넘긴 연결은 끊는다.
+ * 클라이언트는 Last-Event-ID로 다시 연결해 놓친 이벤트를 받는다.
+ * 사용자마다 최근 이벤트를 일정 개수 보관하고, 그보다 오래된 위치에서 재연결하면 reset 이벤트를 보내 목록을 다시 받게 한다.
+ *
+ * 이벤트 id는 "서버 시작 시각-순번" 형식이다. 재시작 전의 id로 재연결하면 reset을 보낸다.
+ */
+@Slf4j
+@Component
+public class TodoChangeFeed implements MeterBinder, DisposableBean {
+
+    private static final Message HEARTBEAT = new Message(0, null, null, null);
+
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, UserFeed> feeds = new ConcurrentHashMap<>();
+
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final int historySize;
+    private final long resumeWindowMillis;
+    private final long sendTimeoutNanos;
+    private final ExecutorService sender;
+    private final ScheduledExecutorService heartbeat;
+
+    private volatile Counter droppedCounter;
+    private volatile Counter stalledCounter;
+
+    public TodoChangeFeed(
+            @Value("${todo.stream.timeout:30m}") Duration timeout,
+            @Value("${todo.stream.heartbeat:15s}") Duration heartbeatInterval,
+            @Value("${todo.stream.buffer-size:32}") int bufferSize,
+            @Value("${todo.stream.history-size:256}") int historySize,
+            @Value("${todo.stream.resume-window:5m}") Duration resumeWindow,
+            @Value("${todo.stream.send-timeout:10s}") Duration sendTimeout) {
+        this.timeoutMillis = timeout.toMillis();
+        this.bufferSize = bufferSize;
+        this.historySize = historySize;
+        this.resumeWindowMillis = resumeWindow.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.sender = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("todo-stream-", 0).factory());
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("todo-stream-heartbeat-"));
+        this.heartbeat.scheduleAtFixedRate(
+                this::sendHeartbeats,
+                heartbeatInterval.toMillis(),
+                heartbeatInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        long checkMillis = Math.max(1, sendTimeout.toMillis() / 2);
+        this.heartbeat.scheduleAtFixedRate(this::closeStalledSubscribers, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 사용자의 변경 알림 구독
+     * 처음에는 ready(이어받기 가능) 또는 reset(놓친 이벤트가 보관 범위를 벗어남) 이벤트를 보내고,
+     * lastEventId 이후의 보관된 이벤트를 이어서 보낸다.
+     *
+     * @param userId 사용자 id
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 id (Last-Event-ID), 처음이면 null
+     */
+    public SseEmitter subscribe(long userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(userId, emitter);
+
+        // 등록과 재전송 사이에 발행된 이벤트가 빠지거나 중복되지 않도록 사용자 단위로 묶어서 처리
+        while (true) {
+            UserFeed target = feeds.computeIfAbsent(userId, id -> new UserFeed(sequence.get()));
+            target.lock.lock();
+            try {
+                if (target.removed) {
+                    continue;  // 정리 작업이 방금 지운 feed - 새로 만든다
+                }
+                target.replay(subscriber, parseSequence(lastEventId));
+                target.subscribers.add(subscriber);
+                target.lastActivity = System.currentTimeMillis();
+                break;
+            } finally {
+                target.lock.unlock();
+            }
+        }
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        return emitter;
+    }
+
+    /**
+     * 커밋된 변경만 보낸다. (롤백된 변경은 클라이언트에 알리지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        UserFeed feed = lockedFeed(event.userId());
+        if (feed == null) {
+            return;  // 연결도, 이어받을 클라이언트도 없음
+        }
+
+        try {
+            long seq = sequence.incrementAndGet();
+            Message message = new Message(
+                    seq,
+                    eventId(seq),
+                    event.type().name().toLowerCase(Locale.ROOT),
+                    new Change(event.type(), event.todoIds()));
+
+            feed.recent.addLast(message);
+            if (feed.recent.size() > historySize) {
+                feed.floor = feed.recent.removeFirst().seq();
+            }
+            feed.lastActivity = System.currentTimeMillis();
+
+            for (Subscriber subscriber : List.copyOf(feed.subscribers)) {
+                subscriber.enqueue(message);
+            }
+        } finally {
+            feed.lock.unlock();
+        }
+    }
+
+    public int subscriberCount() {
+        return feeds.values().stream().mapToInt(feed -> {
+            feed.lock.lock();
+            try {
+                return feed.subscribers.size();
+            } finally {
+                feed.lock.unlock();
+            }
+        }).sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        droppedCounter = Counter.builder("todo.stream.dropped")
+                .description("대기열이 가득 차서 끊은 연결 수")
+                .register(registry);
+        stalledCounter = Counter.builder("todo.stream.stalled")
+                .description("전송 하나가 send-timeout을 넘겨서 끊은 연결 수")
+                .register(registry);
+        Gauge.builder("todo.stream.subscribers", this, TodoChangeFeed::subscriberCount)
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        heartbeat.shutdownNow();
+        sender.shutdownNow();
+    }
+
+    /**
+     * 연결이 끊기지 않도록 주기적으로 comment를 보내고,
+     * 연결이 없고 이어받기 시간도 지난 사용자의 보관 이벤트를 정리한다.
+     */
+    private void sendHeartbeats() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<Long, UserFeed> entry : feeds.entrySet()) {
+            UserFeed feed = entry.getValue();
+            feed.lock.lock();
+            try {
+                if (feed.subscribers.isEmpty()) {
+                    if (now - feed.lastActivity > resumeWindowMillis) {
+                        feed.removed = true;
+                        feeds.remove(entry.getKey(), feed);
+                    }
+                    continue;
+                }
+                for (Subscriber subscriber : List.copyOf(feed.subscribers)) {
+                    subscriber.enqueue(HEARTBEAT);
+                }
+            } finally {
+                feed.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 전송 하나가 send-timeout을 넘긴 연결을 끊는다.
+     * 막힌 send는 바로 풀리지 않으므로 feed에서 먼저 빼서 더 쌓이지 않게 하고, 전송 중인 가상 스레드를 interrupt한다.
+     */
+    private void closeStalledSubscribers() {
+        long now = System.nanoTime();
+        for (UserFeed feed : feeds.values()) {
+            List<Subscriber> subscribers;
+            feed.lock.lock();
+            try {
+                subscribers = List.copyOf(feed.subscribers);
+            } finally {
+                feed.lock.unlock();
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.stalled(now)) {
+                    if (stalledCounter != null) {
+                        stalledCounter.increment();
+                    }
+                    log.debug("변경 알림 전송이 {}ms 넘게 끝나지 않아 연결을 끊습니다. userId={}",
+                            TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos), subscriber.userId);
+                    subscriber.abort();
+                }
+            }
+        }
+    }
+
+    /**
+     * 사용자의 feed를 잠가서 반환 (없으면 null) - 호출한 쪽에서 unlock 해야 한다.
+     * 잠그기 직전에 정리 작업이 지웠으면 다시 찾는다.
+     */
+    private UserFeed lockedFeed(long userId) {
+        while (true) {
+            UserFeed feed = feeds.get(userId);
+            if (feed == null) {
+                return null;
+            }
+            feed.lock.lock();
+            if (!feed.removed) {
+                return feed;
+            }
+            feed.lock.unlock();
+        }
+    }
+
+    private String eventId(long seq) {
+        return epoch + "-" + seq;
+    }
+
+    /**
+     * @return 없으면 null, 이 서버에서 발행한 id면 순번, 아니면 -1
+     */
+    private Long parseSequence(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        int separator = lastEventId.indexOf('-');
+        try {
+            if (separator > 0 && Long.parseLong(lastEventId.substring(0, separator)) == epoch) {
+                return Long.parseLong(lastEventId.substring(separator + 1));
+            }
+        } catch (NumberFormatException e) {
+            // 형식이 다르면 처음부터 다시 받게 한다
+        }
+        return -1L;
+    }
+
+    /**
+     * 클라이언트에 보내는 변경 내용
+     */
+    public record Change(TodoChangedEvent.Type type, List<Long> todoIds) {
+    }
+
+    /**
+     * @param seq 순번 (HEARTBEAT는 0)
+     * @param id SSE 이벤트 id, null이면 보내지 않음
+     * @param name SSE 이벤트 이름
+     * @param data 본문 (JSON으로 변환)
+     */
+    private record Message(long seq, String id, String name, Object data) {
+    }
+
+    /**
+     * 사용자 한 명의 연결 목록과 최근 이벤트
+     * 모든 필드는 lock을 잡고 사용한다.
+     * synchronized 대신 ReentrantLock을 쓴다. 가상 스레드가 모니터를 기다리면 캐리어 스레드까지 묶이기(pinning) 때문이다.
+     */
+    private final class UserFeed {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean removed;  // 정리 작업이 feeds에서 지웠으면 true, 이 feed에는 더 등록하지 않는다
+
+        private final Set<Subscriber> subscribers = new HashSet<>();
+        private final ArrayDeque<Message> recent = new ArrayDeque<>();
+        private long floor;  // 이 순번까지의 이벤트는 보관하고 있지 않음
+        private long lastActivity = System.currentTimeMillis();
+
+        private UserFeed(long floor) {
+            this.floor = floor;
+        }
+
+        /**
+         * @param lastSeq 클라이언트가 마지막으로 받은 순번, 처음 연결이면 null, 알 수 없는 id면 -1
+         */
+        private void replay(Subscriber subscriber, Long lastSeq) {
+            long latest = recent.isEmpty() ? floor : recent.getLast().seq();
+            if (lastSeq == null) {
+                subscriber.enqueue(new Message(latest, eventId(latest), "ready", ""));
+                return;
+            }
+
+            List<Message> missed = recent.stream().filter(message -> message.seq() > lastSeq).toList();
+            // 보관 범위를 벗어났거나 한 번에 보낼 수 있는 양보다 많으면 목록을 다시 받게 한다
+            boolean resumable = lastSeq >= floor && missed.size() < bufferSize;
+            if (!resumable) {
+                subscriber.enqueue(new Message(latest, eventId(latest), "reset", ""));
+                return;
+            }
+            // 이어받을 때는 id를 보내지 않는다. 재전송 도중 끊겨도 클라이언트의 Last-Event-ID가 앞으로 가지 않는다
+            subscriber.enqueue(new Message(lastSeq, null, "ready", ""));
+            missed.forEach(subscriber::enqueue);
+        }
+    }
+
+    /**
+     * 연결 하나 - 전송 대기열을 sender 가상 스레드에서 한 번에 하나의 작업으로만 비운다.
+     */
+    private final class Subscriber {
+
+        private final long userId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Message> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile long sendStartedAt;  // 전송 중인 send의 시작 시각 (System.nanoTime), 전송 중이 아니면 0
+        private volatile Thread sendingThread;
+
+        private Subscriber(long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(Message message) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(message)) {
+                // 보내는 속도보다 쌓이는 속도가 빠른 연결은 끊고, 재연결 시 Last-Event-ID로 이어받게 한다
+                if (droppedCounter != null) {
+                    droppedCounter.increment();
+                }
+                log.debug("전송 대기열이 가득 차서 변경 알림 연결을 끊습니다. userId={}", userId);
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RuntimeException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            sendingThread = Thread.currentThread();
+            try {
+                Message message;
+                while (!closed && (message = queue.poll()) != null) {
+                    sendStartedAt = System.nanoTime();
+                    emitter.send(toEvent(message));
+                    sendStartedAt = 0;
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            } finally {
+                sendStartedAt = 0;
+                sendingThread = null;
+                draining.set(false);
+            }
+            if (!closed && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private SseEmitter.SseEventBuilder toEvent(Message message) {
+            if (message == HEARTBEAT) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(message.name()).data(message.data());
+            return message.id() == null ? event : event.id(message.id());
+        }
+
+        private boolean stalled(long now) {
+            long started = sendStartedAt;
+            return started != 0 && now - started > sendTimeoutNanos;
+        }
+
+        private void abort() {
+            close();
+            Thread thread = sendingThread;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+
+        /**
+         * 연결을 feed에서 빼고 끝낸다.
+         * emitter.complete()는 진행 중인 send가 끝날 때까지 기다리므로 호출한 스레드(발행 요청, 하트비트)를 붙잡지 않게 가상 스레드에서 부른다.
+         */
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.clear();
+
+            UserFeed feed = feeds.get(userId);
+            if (feed != null) {
+                feed.lock.lock();
+                try {
+                    feed.subscribers.remove(this);
+                    feed.lastActivity = System.currentTimeMillis();
+                } finally {
+                    feed.lock.unlock();
+                }
+            }
+            try {
+                sender.execute(this::complete);
+            } catch (RuntimeException e) {
+                // 종료 중 - 남은 연결은 서버가 닫는다
+            }
+        }
+
+        private void complete() {
+            try {
+                emitter.complete();
+            } catch (RuntimeException e) {
+                // 이미 끝난 연결
+            }
+        }
+    }
+}
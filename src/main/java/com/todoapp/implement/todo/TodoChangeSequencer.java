@@ -0,0 +1,78 @@
+package com.todoapp.implement.todo;
+
+import com.todoapp.dataaccess.repository.UserChangeSequenceRepository;
+import com.todoapp.dataaccess.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 Todo 변경 순번 발급
+ * 한 트랜잭션(일괄 처리 포함)의 변경은 모두 같은 순번을 받는다.
+ *
+ * 순번 행을 커밋까지 잠그므로 같은 사용자의 Todo 쓰기는 하나씩 차례로 커밋된다. (다른 사용자끼리는 막지 않는다)
+ * 이 대가로 순번이 커밋 순서와 같아서, 델타 동기화가 순번 N까지 받은 클라이언트에게 N 이하의 변경을 빠뜨리지 않고,
+ * 통계도 같은 락 아래에서 어긋나지 않게 갱신된다.
+ * 시퀀스나 시각처럼 잠그지 않는 값은 먼저 받은 트랜잭션이 늦게 커밋될 수 있어 동기화 토큰 뒤로 변경이 숨는다.
+ * 쓰기 API가 UPDATE/DELETE 1번이어도 사용자 단위로는 이 락에서 한 줄로 선다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoChangeSequencer {
+
+    private final UserChangeSequenceRepository userChangeSequenceRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 가입한 사용자의 순번 행 생성 - 가입 트랜잭션 안에서 호출한다.
+     * 행이 미리 있으므로 첫 쓰기들이 동시에 들어와도 행을 만들다 부딪히지 않는다.
+     */
+    public void register(long userId) {
+        userChangeSequenceRepository.insertIfAbsent(userId);
+    }
+
+    /**
+     * 다음 순번 발급 - 트랜잭션 안에서 호출해야 한다.
+     * 사용자의 순번 행을 커밋까지 잠그므로, 순번 N이 커밋되어 보이면 N 이하의 변경도 모두 커밋되어 있다.
+     */
+    public long next(long userId) {
+        if (userChangeSequenceRepository.increment(userId) == 0) {
+            // 순번 행이 생기기 전에 가입한 사용자 - 사용자 행을 잠가 동시에 처음 쓰는 요청이 행을 두 번 만들지 않게 한다
+            // (기다린 요청은 앞 요청이 커밋한 행을 보고 만들지 않는다)
+            userRepository.findByIdForUpdate(userId);
+            userChangeSequenceRepository.insertIfAbsent(userId);
+            userChangeSequenceRepository.increment(userId);
+        }
+        return current(userId);
+    }
+
+    /**
+     * 순번을 올리지 않고 사용자의 Todo 쓰기만 커밋까지 막는다. - 트랜잭션 안에서 호출해야 한다.
+     * 모든 쓰기는 next()로 같은 행을 먼저 잠그므로, 이후 읽는 값은 진행 중인 쓰기 없이 커밋된 상태다.
+     */
+    public void lock(long userId) {
+        userChangeSequenceRepository.findForUpdate(userId);
+    }
+
+    /**
+     * 커밋된 마지막 순번 (변경이 없었으면 0)
+     */
+    public long current(long userId) {
+        return userChangeSequenceRepository.findLastSeq(userId).orElse(0L);
+    }
+
+    /**
+     * 보관 기간이 지나 지운 삭제 기록의 마지막 순번 (지운 적이 없으면 0)
+     * 이보다 작은 순번까지만 반영한 클라이언트는 삭제를 빠뜨렸을 수 있다.
+     */
+    public long purgedUpTo(long userId) {
+        return userChangeSequenceRepository.findPurgedSeq(userId).orElse(0L);
+    }
+
+    /**
+     * upTo 이하의 삭제 기록을 지웠다고 기록 - 삭제 기록을 지우는 트랜잭션 안에서 호출해야 한다.
+     * 순번 행을 잠그므로 그 사용자의 진행 중인 쓰기가 끝날 때까지 기다린다.
+     */
+    public void markPurged(long userId, long upTo) {
+        userChangeSequenceRepository.raisePurgedSeq(userId, upTo);
+    }
+}
@@ -0,0 +1,25 @@
+package com.todoapp.implement.todo;
+
+import java.util.List;
+
+/**
+ * Todo가 생성/수정/완료/삭제되었을 때 TodoService가 발행하는 이벤트
+ * 캐시 무효화, 목록 버전 갱신 등 부가 작업은 이 이벤트를 받아서 처리한다.
+ *
+ * @param userId 변경된 Todo의 소유자
+ * @param type 변경 종류
+ * @param todoIds 변경된 Todo id
+ */
+public record TodoChangedEvent(long userId, Type type, List<Long> todoIds) {
+
+    public TodoChangedEvent {
+        todoIds = List.copyOf(todoIds);
+    }
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        COMPLETED,
+        DELETED
+    }
+}
@@ -0,0 +1,48 @@
+package com.todoapp.implement.todo;
+
+import com.todoapp.common.exception.InvalidCursorException;
+import com.todoapp.dataaccess.projection.TodoView;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Todo 목록 Keyset 페이지네이션 커서
+ * 마지막으로 받은 Todo의 (createdDate, id)를 담고, 클라이언트에는 불투명한 문자열로만 노출한다.
+ */
+public record TodoCursor(Instant createdDate, Long id) {
+
+    private static final String DELIMITER = ":";
+
+    public static TodoCursor from(TodoView todo) {
+        return new TodoCursor(todo.createdDate(), todo.id());
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param value encode()로 만든 커서 문자열
+     * @return 커서
+     * @throws InvalidCursorException 형식이 맞지 않는 커서
+     */
+    public static TodoCursor decode(String value) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER);
+            if (parts.length != 3) {
+                throw new InvalidCursorException();
+            }
+
+            Instant createdDate = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new TodoCursor(createdDate, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException | ArithmeticException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public String encode() {
+        String raw = createdDate.getEpochSecond() + DELIMITER + createdDate.getNano() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
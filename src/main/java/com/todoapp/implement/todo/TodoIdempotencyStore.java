@@ -0,0 +1,156 @@
+package com.todoapp.implement.todo;
+
+import com.todoapp.common.cache.BoundedCache;
+import com.todoapp.common.exception.IdempotencyKeyReusedException;
+import com.todoapp.common.exception.IdempotentRequestInProgressException;
+import com.todoapp.common.exception.InvalidIdempotencyKeyException;
+import com.todoapp.common.security.CurrentUserIdProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Idempotency-Key 처리 (Todo 쓰기 API 재시도 중복 방지)
+ * 사용자별 (userId, 키)마다 첫 실행의 응답을 TTL 동안 보관하고, 같은 키로 다시 오면 DB를 거치지 않고 그 응답을 돌려준다.
+ *
+ * 첫 요청이 아직 처리 중일 때 같은 키로 온 요청은 새로 실행하지 않고 첫 실행의 결과를 기다린다.
+ * 실패한 실행은 커밋되지 않았으므로 보관하지 않는다. 기다리던 요청도 같은 예외를 받고, 이후 재시도는 다시 실행된다.
+ *
+ * 같은 키를 다른 요청(다른 API나 본문)에 쓰면 409로 거절한다.
+ * 메모리 보관이라 서버 인스턴스별로 동작하며, 보관 개수를 넘으면 오래 쓰지 않은 키부터 지운다.
+ */
+@Component
+public class TodoIdempotencyStore implements MeterBinder {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final BoundedCache<Key, Execution> executions;
+    private final CurrentUserIdProvider currentUserIdProvider;
+    private final ObjectMapper objectMapper;
+    private final long waitTimeoutMillis;
+    private final LongAdder replayed = new LongAdder();
+
+    public TodoIdempotencyStore(
+            CurrentUserIdProvider currentUserIdProvider,
+            ObjectMapper objectMapper,
+            @Value("${todo.idempotency.max-keys:100000}") int maxKeys,
+            @Value("${todo.idempotency.ttl:24h}") Duration ttl,
+            @Value("${todo.idempotency.wait-timeout:10s}") Duration waitTimeout) {
+        this.executions = new BoundedCache<>(maxKeys, ttl);
+        this.currentUserIdProvider = currentUserIdProvider;
+        this.objectMapper = objectMapper;
+        this.waitTimeoutMillis = waitTimeout.toMillis();
+    }
+
+    /**
+     * 키가 없으면 그대로 실행하고, 있으면 한 번만 실행한다.
+     *
+     * @param idempotencyKey Idempotency-Key 헤더 값 (없으면 null)
+     * @param operation      API 구분 (다른 API에 같은 키를 쓰는지 확인용)
+     * @param request        요청 내용 (경로 변수, 본문 등 - 같은 키의 요청이 같은지 확인용)
+     * @param action         실제 처리 - 커밋까지 끝난 응답을 돌려줘야 한다.
+     * @return 첫 실행의 응답 (다시 보낸 응답에는 Idempotent-Replayed 헤더를 붙인다)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> execute(
+            String idempotencyKey, String operation, Object request, Supplier<ResponseEntity<T>> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException();
+        }
+
+        Key key = new Key(currentUserIdProvider.getCurrentUserId(), idempotencyKey);
+        Execution mine = new Execution(fingerprint(operation, request), new CompletableFuture<>());
+        Execution existing = executions.putIfAbsent(key, mine);
+        if (existing != null) {
+            if (!Arrays.equals(existing.fingerprint(), mine.fingerprint())) {
+                throw new IdempotencyKeyReusedException();
+            }
+            replayed.increment();
+            return replay((ResponseEntity<T>) await(existing.response()));
+        }
+
+        try {
+            ResponseEntity<T> response = action.get();
+            mine.response().complete(response);
+            return response;
+        } catch (Throwable t) {
+            // Error도 지우고 전달해야 같은 키의 재시도가 TTL 동안 막히지 않는다
+            executions.invalidate(key, mine);
+            mine.response().completeExceptionally(t);
+            throw t;
+        }
+    }
+
+    private ResponseEntity<?> await(CompletableFuture<ResponseEntity<?>> response) {
+        try {
+            return response.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotentRequestInProgressException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotentRequestInProgressException();
+        } catch (ExecutionException e) {
+            // 첫 실행의 예외를 그대로 전달
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static <T> ResponseEntity<T> replay(ResponseEntity<T> response) {
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .header(REPLAYED_HEADER, "true")
+                .body(response.getBody());
+    }
+
+    // 요청 전체 대신 SHA-256만 보관해 키당 메모리를 일정하게 유지
+    private byte[] fingerprint(String operation, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(objectMapper.writeValueAsBytes(operation));
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        executions.bindTo(registry, "todo.idempotency");
+        FunctionCounter.builder("todo.idempotency.replays", replayed, LongAdder::sum)
+                .register(registry);
+    }
+
+    private record Key(long userId, String idempotencyKey) {
+    }
+
+    private record Execution(byte[] fingerprint, CompletableFuture<ResponseEntity<?>> response) {
+    }
+}
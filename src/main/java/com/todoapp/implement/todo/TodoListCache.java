@@ -0,0 +1,162 @@
+package com.todoapp.implement.todo;
+
+import com.todoapp.common.cache.BoundedCache;
+import com.todoapp.dataaccess.projection.TodoView;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자(owner)별 Todo 목록 캐시
+ * Hibernate 쿼리 캐시는 todo 테이블이 바뀌면 모든 사용자의 결과를 버리지만,
+ * 이 캐시는 변경한 사용자의 목록만 무효화한다.
+ *
+ * 사용자마다 세대(generation) 번호를 두고 캐시 항목에 함께 저장한다.
+ * 무효화하면 세대가 올라가므로, 무효화 직전에 DB에서 읽은 오래된 목록이 나중에 저장되어도 사용되지 않는다.
+ * 세대 번호도 캐시와 같은 사용자 수(max-users)까지만 기억한다. (UserVersionTable)
+ */
+@Component
+public class TodoListCache implements MeterBinder {
+
+    private final boolean enabled;
+    private final BoundedCache<Long, UserTodos> cache;
+    private final UserVersionTable generations;
+
+    public TodoListCache(
+            @Value("${todo.cache.enabled:false}") boolean enabled,
+            @Value("${todo.cache.max-users:10000}") int maxUsers,
+            @Value("${todo.cache.ttl:10m}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = new BoundedCache<>(enabled ? maxUsers : 0, ttl);
+        this.generations = new UserVersionTable(maxUsers);
+    }
+
+    /**
+     * 캐시된 목록을 반환하고, 없으면 loader로 읽어서 저장
+     *
+     * @param userId 사용자 id
+     * @param loader DB 조회
+     * @return 사용자의 Todo 목록 (불변)
+     */
+    public List<TodoView> getOrLoad(long userId, Supplier<List<TodoView>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        UserTodos cached = getValid(userId);
+        if (cached != null) {
+            return cached.todos();
+        }
+
+        long generation = generations.current(userId);
+        List<TodoView> todos = List.copyOf(loader.get());
+
+        // 현재 트랜잭션에서 이 사용자의 Todo를 바꿨다면 커밋 전 데이터이므로 저장하지 않는다
+        if (!isPendingInCurrentTransaction(userId)) {
+            cache.put(userId, new UserTodos(generation, todos, index(todos)));
+        }
+        return todos;
+    }
+
+    /**
+     * 캐시된 목록에서 단건 조회
+     *
+     * @return 캐시에 목록이 있고 그 안에 Todo가 있으면 값, 아니면 empty
+     */
+    public Optional<TodoView> find(long userId, Long todoId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        UserTodos cached = getValid(userId);
+        return cached == null ? Optional.empty() : Optional.ofNullable(cached.byId().get(todoId));
+    }
+
+    /**
+     * 사용자의 목록을 무효화
+     * 트랜잭션 안이면 커밋/롤백 후에도 한 번 더 무효화해서, 그 사이 다른 요청이 읽어 간 이전 데이터도 버린다.
+     */
+    public void evict(long userId) {
+        if (!enabled) {
+            return;
+        }
+
+        evictNow(userId);
+        Set<Long> pending = pendingEvictions();
+        if (pending != null) {
+            pending.add(userId);
+        }
+    }
+
+    @EventListener
+    public void onTodoChanged(TodoChangedEvent event) {
+        evict(event.userId());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cache.bindTo(registry, "todoList");
+    }
+
+    private UserTodos getValid(long userId) {
+        UserTodos cached = cache.get(userId);
+        if (cached != null && cached.generation() != generations.current(userId)) {
+            cache.invalidate(userId);
+            return null;
+        }
+        return cached;
+    }
+
+    private void evictNow(long userId) {
+        generations.bump(userId);
+        cache.invalidate(userId);
+    }
+
+    private boolean isPendingInCurrentTransaction(long userId) {
+        Object pending = TransactionSynchronizationManager.getResource(this);
+        return pending instanceof Set<?> users && users.contains(userId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Long> pendingEvictions() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Long> users = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, users);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TodoListCache.this);
+                    users.forEach(TodoListCache.this::evictNow);
+                }
+            });
+            pending = users;
+        }
+        return pending;
+    }
+
+    private static Map<Long, TodoView> index(List<TodoView> todos) {
+        Map<Long, TodoView> byId = new LinkedHashMap<>();
+        todos.forEach(todo -> byId.put(todo.id(), todo));
+        return byId;
+    }
+
+    private record UserTodos(long generation, List<TodoView> todos, Map<Long, TodoView> byId) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.todoapp.implement.todo;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자별 Todo 목록 버전
+ * 목록이 바뀔 때마다 올라가며, 목록 조회의 ETag로 사용한다.
+ * 조회 전에 버전만 보고 304를 판단할 수 있어 목록을 읽거나 직렬화하지 않아도 된다.
+ *
+ * 버전은 커밋이 끝난 뒤에 올린다. 커밋 전에 올리면 아직 보이지 않는 이전 목록이 새 버전으로 캐시될 수 있다.
+ * 메모리에만 있으므로 서버가 재시작되면 시작 시각(epoch)이 바뀌어 이전 ETag와 겹치지 않는다.
+ * 추적하는 사용자 수는 todo.cache.max-users로 제한한다. (UserVersionTable)
+ */
+@Component
+public class TodoListVersions {
+
+    private final long epoch = System.currentTimeMillis();
+    private final UserVersionTable versions;
+
+    public TodoListVersions(@Value("${todo.cache.max-users:10000}") int maxUsers) {
+        this.versions = new UserVersionTable(maxUsers);
+    }
+
+    public long current(long userId) {
+        return versions.current(userId);
+    }
+
+    /**
+     * 버전을 따로 기억하고 있는 사용자 수
+     */
+    public int trackedUsers() {
+        return versions.size();
+    }
+
+    /**
+     * 목록 ETag (weak) - 같은 값이면 목록 내용이 같다
+     */
+    public String eTag(long userId) {
+        return "W/\"" + epoch + "-" + userId + "-" + current(userId) + "\"";
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        versions.bump(event.userId());
+    }
+}
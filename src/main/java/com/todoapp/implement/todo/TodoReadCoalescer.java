@@ -0,0 +1,111 @@
+package com.todoapp.implement.todo;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 동시에 들어온 같은 조회 합치기 (single-flight)
+ * 여러 기기에서 동시에 열거나 클라이언트가 두 번 보낸 같은 조회는 먼저 온 요청만 DB를 읽고, 나머지는 그 결과를 함께 받는다.
+ * 결과를 보관하지는 않는다. 조회가 끝나면 바로 지우므로 다음 조회는 다시 DB를 읽는다.
+ *
+ * 키에 사용자의 목록 버전(TodoListVersions)을 넣는다.
+ * 쓰기가 커밋되면 버전이 올라가서, 그 뒤에 시작한 조회는 쓰기 전에 시작된 조회에 합쳐지지 않는다.
+ *
+ * 트랜잭션 안에서는 합치지 않는다. 아직 커밋되지 않은 자기 변경을 봐야 할 수 있고,
+ * 기다리는 동안 DB 커넥션을 붙잡고 있게 되기 때문이다.
+ */
+@Component
+public class TodoReadCoalescer implements MeterBinder {
+
+    private final boolean enabled;
+    private final TodoListVersions todoListVersions;
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public TodoReadCoalescer(
+            @Value("${todo.read-coalescing.enabled:true}") boolean enabled,
+            TodoListVersions todoListVersions) {
+        this.enabled = enabled;
+        this.todoListVersions = todoListVersions;
+    }
+
+    /**
+     * 같은 (사용자, 조회, 인자) 조회가 진행 중이면 그 결과를 기다려 받고, 없으면 loader로 읽는다.
+     *
+     * @param userId    사용자 id
+     * @param operation 조회 종류
+     * @param argument  조회 인자 (equals/hashCode가 값 기준이어야 한다, 없으면 null)
+     * @param loader    실제 조회 - 불변 결과를 돌려줘야 한다. (여러 요청이 같은 객체를 받는다)
+     * @return 조회 결과 (loader의 예외는 기다리던 요청에도 그대로 전달된다)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(long userId, String operation, Object argument, Supplier<T> loader) {
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
+        }
+
+        Key key = new Key(userId, todoListVersions.current(userId), operation, argument);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            return (T) await(running);
+        }
+
+        executed.increment();
+        try {
+            T result = loader.get();
+            mine.complete(result);
+            return result;
+        } catch (Throwable t) {
+            // Error도 전달해야 기다리는 요청이 멈추지 않는다
+            mine.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            // 먼저 온 요청의 예외를 그대로 전달
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("todo.read.coalescing", executed, LongAdder::sum)
+                .tag("result", "executed")
+                .register(registry);
+        FunctionCounter.builder("todo.read.coalescing", coalesced, LongAdder::sum)
+                .tag("result", "coalesced")
+                .register(registry);
+        Gauge.builder("todo.read.coalescing.in-flight", inFlight, Map::size)
+                .register(registry);
+    }
+
+    private record Key(long userId, long version, String operation, Object argument) {
+    }
+}
@@ -0,0 +1,494 @@
+package com.todoapp.implement.todo;
+
+import com.todoapp.dataaccess.projection.TodoView;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 사용자별 Todo 전문 검색 인덱스 (역색인)
+ * LIKE '%검색어%'는 매번 사용자의 Todo 전체를 훑지만, 역색인은 검색어 토큰이 들어 있는 Todo만 본다.
+ *
+ * 사용자(shard)마다 따로 만들고, 처음 검색할 때 DB에서 읽어서 채운다.
+ * Todo가 바뀌면 커밋/롤백 후 해당 id만 stale로 표시해 두고, 다음 검색 전에 그 id만 DB에서 다시 읽는다.
+ * 롤백된 변경도 DB 값으로 다시 맞춰지므로 인덱스가 DB와 어긋나지 않는다.
+ *
+ * 모든 검색어 토큰이 들어 있는 Todo만 결과에 포함하고, 점수(토큰 가중치 x IDF) 높은 순으로 정렬한다.
+ * 제목에 나온 토큰은 설명보다 가중치가 크다.
+ *
+ * 전체 사용자의 인덱스 크기 합이 메모리 한도를 넘거나 사용자 수가 한도를 넘으면 가장 오래 사용하지 않은 사용자부터 제거한다.
+ * 만든 지 ttl이 지난 인덱스는 다음 검색 때 DB에서 다시 만든다.
+ */
+@Component
+public class TodoSearchIndex implements MeterBinder {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int MAX_QUERY_TOKENS = 16;
+    private static final int STRING_OVERHEAD = 40;
+
+    // 점수, 같으면 최근 생성된(id가 큰) Todo 순
+    private static final Comparator<Hit> RANKING =
+            Comparator.comparingDouble(Hit::score).thenComparingLong(Hit::id);
+
+    private final int maxUsers;
+    private final long ttlNanos;
+    private final long maxBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    // accessOrder = true : 가장 오래 사용하지 않은 사용자가 맨 앞
+    private final LinkedHashMap<Long, Shard> shards = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder evictions = new LongAdder();
+    private long usedBytes;
+
+    public TodoSearchIndex(
+            @Value("${todo.search.max-users:1000}") int maxUsers,
+            @Value("${todo.search.ttl:30m}") Duration ttl,
+            @Value("${todo.search.max-memory:128MB}") DataSize maxMemory) {
+        this.maxUsers = maxUsers;
+        this.ttlNanos = ttl.toNanos();
+        this.maxBytes = maxMemory.toBytes();
+    }
+
+    /**
+     * 검색
+     *
+     * @param userId 사용자 id
+     * @param query 검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit 반환할 최대 결과 수
+     * @param loadAll 사용자의 전체 Todo 조회 (인덱스가 없을 때)
+     * @param loadByIds 사용자의 Todo 중 주어진 id만 조회 (변경된 Todo 갱신)
+     * @return 점수 순 결과와 전체 일치 건수
+     */
+    public Result search(
+            long userId,
+            String query,
+            int offset,
+            int limit,
+            Supplier<List<TodoView>> loadAll,
+            Function<Collection<Long>, List<TodoView>> loadByIds) {
+        List<String> tokens = queryTokens(query);
+        if (tokens.isEmpty()) {
+            return new Result(List.of(), 0);
+        }
+
+        Shard shard = acquire(userId);
+        shard.refresh(loadAll, loadByIds);
+        account(userId, shard);
+        return shard.search(tokens, offset, limit);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        Shard shard;
+        lock.lock();
+        try {
+            shard = shards.get(event.userId());
+        } finally {
+            lock.unlock();
+        }
+        if (shard != null) {
+            shard.staleIds.addAll(event.todoIds());
+        }
+    }
+
+    public long usedBytes() {
+        lock.lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("todo.search.memory", this, TodoSearchIndex::usedBytes)
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("todo.search.users", this, index -> index.userCount())
+                .register(registry);
+        FunctionCounter.builder("todo.search.evictions", evictions, LongAdder::sum)
+                .register(registry);
+    }
+
+    private int userCount() {
+        lock.lock();
+        try {
+            return shards.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 사용자 인덱스를 가져오고, 없거나 만료됐으면 비어 있는 인덱스를 먼저 등록
+     * 읽기 전에 등록해야 읽는 도중 커밋된 변경도 stale로 표시된다.
+     * 확인과 등록을 같은 락 안에서 하므로 동시에 처음 검색해도 인덱스는 하나만 만들어진다.
+     */
+    private Shard acquire(long userId) {
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            Shard shard = shards.get(userId);
+            if (shard == null || now - shard.createdAt > ttlNanos) {
+                if (shard != null) {
+                    usedBytes -= shard.accountedBytes;
+                }
+                shard = new Shard(now);
+                shards.put(userId, shard);
+            }
+            return shard;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 인덱스 크기 변화를 반영하고, 한도를 넘으면 오래된 사용자부터 제거
+     */
+    private void account(long userId, Shard shard) {
+        long bytes = shard.bytes;
+        lock.lock();
+        try {
+            if (shards.get(userId) != shard) {
+                return;
+            }
+            usedBytes += bytes - shard.accountedBytes;
+            shard.accountedBytes = bytes;
+
+            Iterator<Map.Entry<Long, Shard>> iterator = shards.entrySet().iterator();
+            while ((usedBytes > maxBytes || shards.size() > maxUsers) && iterator.hasNext()) {
+                Map.Entry<Long, Shard> eldest = iterator.next();
+                if (eldest.getKey() == userId) {
+                    continue;  // 방금 사용한 사용자는 남긴다
+                }
+                iterator.remove();
+                usedBytes -= eldest.getValue().accountedBytes;
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static List<String> queryTokens(String query) {
+        Set<String> tokens = new LinkedHashSet<>(TodoTokenizer.tokenize(query));
+        return tokens.stream().limit(MAX_QUERY_TOKENS).toList();
+    }
+
+    /**
+     * @param items 요청한 범위의 결과
+     * @param totalHits 전체 일치 건수
+     */
+    public record Result(List<TodoView> items, int totalHits) {
+    }
+
+    private record Hit(int slot, long id, double score) {
+    }
+
+    /**
+     * 사용자 한 명의 인덱스
+     * 검색은 읽기 락, 적재/갱신은 쓰기 락으로 보호한다.
+     *
+     * Todo마다 증가하는 slot 번호를 붙여 토큰별 목록을 slot 오름차순으로 유지한다.
+     * 그래서 여러 토큰의 교집합을 해시 없이 정렬 병합으로 구할 수 있다.
+     */
+    private static final class Shard {
+
+        // 삭제/수정으로 비어 있는 slot이 이만큼 넘게 쌓이면 다시 번호를 매긴다
+        private static final int COMPACT_THRESHOLD = 1024;
+
+        // 대략적인 객체 크기 (메모리 한도 계산용)
+        private static final int SHARD_OVERHEAD = 256;
+        private static final int DOC_BYTES = 112;  // TodoView, slotById 항목, docs 참조
+
+        private final long createdAt;
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Set<Long> staleIds = ConcurrentHashMap.newKeySet();
+        private final Map<Long, Integer> slotById = new HashMap<>();
+        private final Map<String, Postings> postings = new HashMap<>();
+        private TodoView[] docs = new TodoView[16];
+        private int nextSlot;
+        private long contentBytes;  // 쓰기 락으로 보호
+        private volatile long bytes = SHARD_OVERHEAD;
+        private volatile boolean loaded;
+        private long accountedBytes;  // TodoSearchIndex.lock으로 보호
+
+        private Shard(long createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        private void refresh(Supplier<List<TodoView>> loadAll, Function<Collection<Long>, List<TodoView>> loadByIds) {
+            if (loaded && staleIds.isEmpty()) {
+                return;
+            }
+
+            lock.writeLock().lock();
+            try {
+                if (!loaded) {
+                    loadAll.get().forEach(this::add);
+                    loaded = true;
+                }
+                if (!staleIds.isEmpty()) {
+                    List<Long> ids = new ArrayList<>(staleIds);
+                    staleIds.removeAll(ids);
+                    ids.forEach(this::remove);
+                    loadByIds.apply(ids).forEach(this::add);
+                }
+                if (nextSlot - slotById.size() > COMPACT_THRESHOLD) {
+                    compact();
+                }
+                bytes = SHARD_OVERHEAD + contentBytes + 8L * docs.length;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private Result search(List<String> tokens, int offset, int limit) {
+            lock.readLock().lock();
+            try {
+                List<Postings> lists = new ArrayList<>(tokens.size());
+                for (String token : tokens) {
+                    Postings list = postings.get(token);
+                    if (list == null) {
+                        return new Result(List.of(), 0);
+                    }
+                    lists.add(list);
+                }
+                // 가장 드문 토큰부터 시작해야 후보 수가 가장 작다
+                lists.sort(Comparator.comparingInt(Postings::size));
+
+                int docCount = slotById.size();
+                Postings rarest = lists.getFirst();
+                int[] candidates = Arrays.copyOf(rarest.slots, rarest.size);
+                double[] scores = new double[rarest.size];
+                int count = rarest.score(scores, docCount);
+                for (int i = 1; i < lists.size() && count > 0; i++) {
+                    count = lists.get(i).intersect(candidates, scores, count, docCount);
+                }
+
+                return page(candidates, scores, count, offset, limit);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private Result page(int[] candidates, double[] scores, int count, int offset, int limit) {
+            if (offset >= count || limit <= 0) {
+                return new Result(List.of(), count);
+            }
+
+            // 전체를 정렬하지 않고 offset + limit 개만 남긴다 (점수가 가장 낮은 것이 맨 앞)
+            long wanted = (long) offset + limit;
+            PriorityQueue<Hit> top = new PriorityQueue<>(RANKING);
+            for (int i = 0; i < count; i++) {
+                // 이미 다 찼고 가장 낮은 점수보다도 낮으면 객체를 만들지 않고 넘어간다
+                if (top.size() == wanted && scores[i] < top.peek().score()) {
+                    continue;
+                }
+                top.add(new Hit(candidates[i], docs[candidates[i]].id(), scores[i]));
+                if (top.size() > wanted) {
+                    top.poll();
+                }
+            }
+
+            Hit[] ranked = top.toArray(Hit[]::new);
+            Arrays.sort(ranked, RANKING.reversed());
+
+            List<TodoView> items = new ArrayList<>(limit);
+            for (int i = offset; i < ranked.length; i++) {
+                items.add(docs[ranked[i].slot()]);
+            }
+            return new Result(items, count);
+        }
+
+        private void add(TodoView todo) {
+            remove(todo.id());
+
+            int slot = nextSlot++;
+            if (slot == docs.length) {
+                docs = Arrays.copyOf(docs, docs.length * 2);
+            }
+            docs[slot] = todo;
+            slotById.put(todo.id(), slot);
+            contentBytes += docBytes(todo);
+
+            Map<String, Integer> weights = new HashMap<>();
+            TodoTokenizer.tokenize(todo.title()).forEach(token -> weights.merge(token, TITLE_WEIGHT, Integer::sum));
+            TodoTokenizer.tokenize(todo.description())
+                    .forEach(token -> weights.merge(token, DESCRIPTION_WEIGHT, Integer::sum));
+
+            weights.forEach((token, weight) -> {
+                Postings list = postings.get(token);
+                long before = 0;
+                if (list == null) {
+                    list = new Postings();
+                    postings.put(token, list);
+                } else {
+                    before = list.bytes(token);
+                }
+                list.append(slot, weight);
+                contentBytes += list.bytes(token) - before;
+            });
+        }
+
+        private void remove(long id) {
+            Integer slot = slotById.remove(id);
+            if (slot == null) {
+                return;
+            }
+            TodoView old = docs[slot];
+            docs[slot] = null;
+            contentBytes -= docBytes(old);
+
+            Set<String> tokens = new LinkedHashSet<>(TodoTokenizer.tokenize(old.title()));
+            tokens.addAll(TodoTokenizer.tokenize(old.description()));
+            for (String token : tokens) {
+                Postings list = postings.get(token);
+                if (list != null && list.remove(slot) && list.size() == 0) {
+                    postings.remove(token);
+                    contentBytes -= list.bytes(token);
+                }
+            }
+        }
+
+        private void compact() {
+            List<TodoView> live = new ArrayList<>(slotById.size());
+            for (int slot = 0; slot < nextSlot; slot++) {
+                if (docs[slot] != null) {
+                    live.add(docs[slot]);
+                }
+            }
+
+            slotById.clear();
+            postings.clear();
+            docs = new TodoView[Math.max(16, live.size())];
+            nextSlot = 0;
+            contentBytes = 0;
+            live.forEach(this::add);
+        }
+
+        private static long docBytes(TodoView todo) {
+            return DOC_BYTES + stringBytes(todo.title()) + stringBytes(todo.description());
+        }
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : STRING_OVERHEAD + 2L * value.length();
+    }
+
+    /**
+     * 토큰 하나가 들어 있는 Todo의 slot(오름차순)과 가중치 목록
+     * 박싱 없이 배열로 저장해서 Todo가 많아도 메모리를 적게 쓴다.
+     */
+    private static final class Postings {
+
+        private static final int POSTINGS_OVERHEAD = 96;  // Postings, 배열 헤더 2개, postings 맵 항목
+
+        private int[] slots = new int[4];
+        private int[] weights = new int[4];
+        private int size;
+
+        private int size() {
+            return size;
+        }
+
+        /**
+         * 토큰 문자열과 배열 용량(slot, 가중치 int 두 개)까지 포함한 대략적인 크기
+         */
+        private long bytes(String token) {
+            return POSTINGS_OVERHEAD + stringBytes(token) + 8L * slots.length;
+        }
+
+        /**
+         * slot은 항상 증가하므로 뒤에 붙이기만 해도 정렬이 유지된다.
+         */
+        private void append(int slot, int weight) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            slots[size] = slot;
+            weights[size] = weight;
+            size++;
+        }
+
+        private boolean remove(int slot) {
+            int index = Arrays.binarySearch(slots, 0, size, slot);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(slots, index + 1, slots, index, size - index - 1);
+            System.arraycopy(weights, index + 1, weights, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        /**
+         * 첫 토큰 - 모든 slot이 후보
+         *
+         * @return 후보 수
+         */
+        private int score(double[] scores, int docCount) {
+            double idf = idf(docCount);
+            for (int i = 0; i < size; i++) {
+                scores[i] = weights[i] * idf;
+            }
+            return size;
+        }
+
+        /**
+         * 후보 중 이 토큰도 들어 있는 것만 앞으로 모으고 점수를 더한다.
+         *
+         * @param candidates slot 오름차순 후보 (앞에서부터 count개 사용)
+         * @return 남은 후보 수
+         */
+        private int intersect(int[] candidates, double[] scores, int count, int docCount) {
+            double idf = idf(docCount);
+            int kept = 0;
+            int from = 0;
+            for (int i = 0; i < count && from < size; i++) {
+                int index = Arrays.binarySearch(slots, from, size, candidates[i]);
+                if (index >= 0) {
+                    candidates[kept] = candidates[i];
+                    scores[kept] = scores[i] + weights[index] * idf;
+                    kept++;
+                    from = index + 1;
+                } else {
+                    from = -index - 1;
+                }
+            }
+            return kept;
+        }
+
+        private double idf(int docCount) {
+            return Math.log(1 + (double) docCount / size);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.todoapp.implement.todo;
+
+import com.todoapp.dataaccess.repository.TodoStatsRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Todo 통계 보정 작업
+ * 증감은 쓰기와 같은 트랜잭션이라 보통은 어긋나지 않지만, 직접 수정한 데이터나 버그로 생긴 차이를 주기적으로 다시 세어 고친다.
+ * 사용자 단위로 트랜잭션을 나누어 한 사용자의 쓰기만 잠깐 막는다.
+ */
+@Slf4j
+@Component
+public class TodoStatsReconciler implements MeterBinder {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final TodoStatsRepository todoStatsRepository;
+    private final TodoStatsRecorder todoStatsRecorder;
+    private final TransactionTemplate transactionTemplate;
+    private final LongAdder checked = new LongAdder();
+    private final LongAdder repaired = new LongAdder();
+
+    public TodoStatsReconciler(
+            TodoStatsRepository todoStatsRepository,
+            TodoStatsRecorder todoStatsRecorder,
+            TransactionTemplate transactionTemplate) {
+        this.todoStatsRepository = todoStatsRepository;
+        this.todoStatsRecorder = todoStatsRecorder;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(
+            initialDelayString = "${todo.stats.reconcile-interval:1h}",
+            fixedDelayString = "${todo.stats.reconcile-interval:1h}")
+    public void reconcileAll() {
+        long after = 0;
+        while (true) {
+            List<Long> userIds = todoStatsRepository.findUserIdsAfter(after, Limit.of(BATCH_SIZE));
+            for (Long userId : userIds) {
+                try {
+                    reconcile(userId);
+                } catch (RuntimeException e) {
+                    log.warn("Todo 통계 보정 실패: userId={}", userId, e);
+                }
+            }
+            if (userIds.size() < BATCH_SIZE) {
+                return;
+            }
+            after = userIds.getLast();
+        }
+    }
+
+    /**
+     * 한 사용자 보정 (별도 트랜잭션)
+     *
+     * @return 고친 값이 있으면 true
+     */
+    public boolean reconcile(long userId) {
+        boolean fixed = Boolean.TRUE.equals(transactionTemplate.execute(status -> todoStatsRecorder.reconcile(userId)));
+        checked.increment();
+        if (fixed) {
+            repaired.increment();
+            log.info("Todo 통계 보정: userId={}", userId);
+        }
+        return fixed;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("todo.stats.reconcile", checked, LongAdder::sum)
+                .tag("result", "checked")
+                .register(registry);
+        FunctionCounter.builder("todo.stats.reconcile", repaired, LongAdder::sum)
+                .tag("result", "repaired")
+                .register(registry);
+    }
+}
@@ -0,0 +1,205 @@
+package com.todoapp.implement.todo;
+
+import com.todoapp.dataaccess.entity.TodoDailyCompletion;
+import com.todoapp.dataaccess.entity.TodoStats;
+import com.todoapp.dataaccess.projection.DailyCompletionView;
+import com.todoapp.dataaccess.projection.TodoStatsView;
+import com.todoapp.dataaccess.repository.TodoDailyCompletionRepository;
+import com.todoapp.dataaccess.repository.TodoRepository;
+import com.todoapp.dataaccess.repository.TodoStatsRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 Todo 통계 (전체/완료 개수, 일별 완료 수)
+ * 조회할 때마다 todo 테이블을 COUNT 하지 않도록 Todo 쓰기와 같은 트랜잭션에서 카운터와 일별 집계를 증감한다.
+ *
+ * record* 메서드는 TodoChangeSequencer.next()로 사용자 행을 잠근 트랜잭션 안에서 호출해야 한다.
+ * 같은 사용자의 증감과 보정이 겹치지 않으므로 행이 없을 때 만드는 경우에도 중복 생성이 없다.
+ * 어긋난 값은 TodoStatsReconciler가 주기적으로 reconcile()로 다시 센다.
+ */
+@Component
+public class TodoStatsRecorder {
+
+    private final TodoStatsRepository todoStatsRepository;
+    private final TodoDailyCompletionRepository todoDailyCompletionRepository;
+    private final TodoRepository todoRepository;
+    private final TodoChangeSequencer todoChangeSequencer;
+    private final ZoneId zone;
+    private final int retentionDays;
+
+    public TodoStatsRecorder(
+            TodoStatsRepository todoStatsRepository,
+            TodoDailyCompletionRepository todoDailyCompletionRepository,
+            TodoRepository todoRepository,
+            TodoChangeSequencer todoChangeSequencer,
+            @Value("${todo.stats.zone:Asia/Seoul}") ZoneId zone,
+            @Value("${todo.stats.retention-days:90}") int retentionDays) {
+        this.todoStatsRepository = todoStatsRepository;
+        this.todoDailyCompletionRepository = todoDailyCompletionRepository;
+        this.todoRepository = todoRepository;
+        this.todoChangeSequencer = todoChangeSequencer;
+        this.zone = zone;
+        this.retentionDays = retentionDays;
+    }
+
+    public void recordCreated(long userId, int count) {
+        add(userId, count, 0);
+    }
+
+    /**
+     * @param count 이번에 새로 완료된 개수 (이미 완료돼 있던 Todo는 빼고)
+     */
+    public void recordCompleted(long userId, int count, Instant completedAt) {
+        if (count <= 0) {
+            return;
+        }
+        add(userId, 0, count);
+        addDaily(userId, dayOf(completedAt), count);
+    }
+
+    /**
+     * @param count        삭제된 개수
+     * @param completedAts 삭제된 Todo 중 완료돼 있던 것의 완료 시각
+     */
+    public void recordDeleted(long userId, int count, List<Instant> completedAts) {
+        if (count <= 0) {
+            return;
+        }
+        add(userId, -count, -completedAts.size());
+        completedAts.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(this::dayOf, Collectors.counting()))
+                .forEach((day, completions) -> addDaily(userId, day, -completions));
+    }
+
+    /**
+     * 통계 조회 - 카운터 1행 + 최근 days일 집계 행만 읽는다.
+     * 아직 통계 행이 없는 사용자는 한 번 세어서 돌려준다. (저장은 첫 쓰기 때)
+     *
+     * @param days 오늘을 포함한 최근 일수 (완료가 없는 날은 0)
+     */
+    public Snapshot read(long userId, int days) {
+        TodoStatsView stats = todoStatsRepository.findViewByUserId(userId).orElseGet(() -> count(userId));
+
+        LocalDate today = today();
+        LocalDate from = today.minusDays(days - 1L);
+        Map<LocalDate, Long> stored = storedDaily(userId, from, today);
+        List<DailyCount> daily = from.datesUntil(today.plusDays(1))
+                .map(day -> new DailyCount(day, stored.getOrDefault(day, 0L)))
+                .toList();
+
+        return new Snapshot(stats.totalCount(), stats.completedCount(), daily);
+    }
+
+    /**
+     * 한 사용자의 카운터와 보관 기간 안의 일별 집계를 todo 테이블에서 다시 세어 다르면 고친다.
+     * 보관 기간이 지난 일별 행은 지운다. - 트랜잭션 안에서 호출해야 한다.
+     *
+     * @return 고친 값이 있으면 true
+     */
+    public boolean reconcile(long userId) {
+        // 진행 중인 쓰기가 끝날 때까지 기다리고, 커밋까지 새 쓰기를 막는다.
+        todoChangeSequencer.lock(userId);
+        boolean repaired = false;
+
+        TodoStatsView actual = count(userId);
+        TodoStatsView stored = todoStatsRepository.findViewByUserId(userId).orElse(null);
+        if (stored == null) {
+            todoStatsRepository.save(new TodoStats(userId, actual.totalCount(), actual.completedCount()));
+            repaired = true;
+        } else if (!stored.equals(actual)) {
+            todoStatsRepository.overwrite(userId, actual.totalCount(), actual.completedCount());
+            repaired = true;
+        }
+
+        LocalDate today = today();
+        LocalDate from = retentionStart();
+        Map<LocalDate, Long> actualDaily = todoRepository
+                .findCompletedAtsSince(userId, from.atStartOfDay(zone).toInstant())
+                .stream()
+                .map(this::dayOf)
+                .filter(day -> !day.isAfter(today))
+                .collect(Collectors.groupingBy(day -> day, Collectors.counting()));
+        Map<LocalDate, Long> storedDaily = storedDaily(userId, from, today);
+
+        TreeSet<LocalDate> days = new TreeSet<>(actualDaily.keySet());
+        days.addAll(storedDaily.keySet());
+        for (LocalDate day : days) {
+            long expected = actualDaily.getOrDefault(day, 0L);
+            Long current = storedDaily.get(day);
+            if (current == null) {
+                todoDailyCompletionRepository.save(new TodoDailyCompletion(userId, day, expected));
+            } else if (expected == 0) {
+                todoDailyCompletionRepository.deleteDay(userId, day);
+            } else if (current != expected) {
+                todoDailyCompletionRepository.add(userId, day, expected - current);
+            } else {
+                continue;
+            }
+            repaired = true;
+        }
+
+        todoDailyCompletionRepository.deleteAllBefore(userId, from);
+        return repaired;
+    }
+
+    public LocalDate today() {
+        return LocalDate.now(zone);
+    }
+
+    public int getRetentionDays() {
+        return retentionDays;
+    }
+
+    private LocalDate retentionStart() {
+        return today().minusDays(retentionDays - 1L);
+    }
+
+    private LocalDate dayOf(Instant instant) {
+        return LocalDate.ofInstant(instant, zone);
+    }
+
+    private TodoStatsView count(long userId) {
+        return new TodoStatsView(
+                todoRepository.countByUserId(userId),
+                todoRepository.countByUserIdAndCompletedTrue(userId));
+    }
+
+    private void add(long userId, long total, long completed) {
+        if (todoStatsRepository.add(userId, total, completed) == 0) {
+            // 첫 기록이면 지금 개수를 한 번 센다. (이번 쓰기도 이미 반영된 상태라 증감은 따로 하지 않는다)
+            TodoStatsView current = count(userId);
+            todoStatsRepository.save(new TodoStats(userId, current.totalCount(), current.completedCount()));
+        }
+    }
+
+    private void addDaily(long userId, LocalDate day, long delta) {
+        if (todoDailyCompletionRepository.add(userId, day, delta) == 0 && delta > 0) {
+            todoDailyCompletionRepository.save(new TodoDailyCompletion(userId, day, delta));
+        }
+    }
+
+    private Map<LocalDate, Long> storedDaily(long userId, LocalDate from, LocalDate to) {
+        Map<LocalDate, Long> stored = new HashMap<>();
+        for (DailyCompletionView row : todoDailyCompletionRepository.findAllBetween(userId, from, to)) {
+            stored.put(row.completedOn(), row.completions());
+        }
+        return stored;
+    }
+
+    public record Snapshot(long totalCount, long completedCount, List<DailyCount> daily) {
+    }
+
+    public record DailyCount(LocalDate date, long completions) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.todoapp.implement.todo;
+
+import com.todoapp.common.exception.InvalidSyncTokenException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 델타 동기화 토큰
+ * 클라이언트가 마지막으로 반영한 변경 순번을 담고, 클라이언트에는 불투명한 문자열로만 노출한다.
+ *
+ * @param changeSeq 마지막으로 반영한 변경 순번
+ * @param fullSync  전체 목록을 나눠 받는 중간 토큰 - 이어 받을 때 삭제 기록 보관 기간을 확인하지 않는다.
+ */
+public record TodoSyncToken(long changeSeq, boolean fullSync) {
+
+    private static final String PREFIX = "s1:";
+    private static final String FULL_SYNC_SUFFIX = ":f";
+
+    public TodoSyncToken(long changeSeq) {
+        this(changeSeq, false);
+    }
+
+    /**
+     * 토큰 문자열 해석
+     *
+     * @param value encode()로 만든 토큰 문자열
+     * @return 토큰
+     * @throws InvalidSyncTokenException 형식이 맞지 않는 토큰
+     */
+    public static TodoSyncToken decode(String value) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new InvalidSyncTokenException();
+            }
+
+            boolean fullSync = decoded.endsWith(FULL_SYNC_SUFFIX);
+            String seq = decoded.substring(PREFIX.length(),
+                    fullSync ? decoded.length() - FULL_SYNC_SUFFIX.length() : decoded.length());
+            long changeSeq = Long.parseLong(seq);
+            if (changeSeq < 0) {
+                throw new InvalidSyncTokenException();
+            }
+            return new TodoSyncToken(changeSeq, fullSync);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidSyncTokenException();
+        }
+    }
+
+    public String encode() {
+        String raw = PREFIX + changeSeq + (fullSync ? FULL_SYNC_SUFFIX : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,458 @@
+package com.todoapp.implement.todo;
+
+import com.todoapp.dataaccess.projection.TodoView;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.text.Normalizer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 제목 자동완성 (입력한 접두사로 시작하는 제목)
+ * 키 입력마다 호출되므로 DB를 거치지 않고 사용자별로 정렬된 제목 배열에서 이진 탐색한다.
+ * 접두사 구간을 끝까지 훑지 않고 사전 순으로 limit개를 찾으면 멈추므로, 짧은 접두사도 Todo 수와 무관하게 응답한다.
+ *
+ * 사용자별 제목 배열은 변경되지 않는 스냅샷이라 조회에는 락이 없다.
+ * Todo가 바뀌면 커밋/롤백 후 해당 id만 stale로 표시하고, 다음 조회 때 그 id만 DB에서 다시 읽어 새 스냅샷으로 교체한다.
+ *
+ * 전체 사용자의 스냅샷 크기 합이 메모리 한도를 넘거나 사용자 수가 max-users를 넘으면 가장 오래 사용하지 않은 사용자부터 제거한다.
+ * Todo가 없는 사용자도 항목 자체의 크기를 계산에 넣는다.
+ * 제거된 사용자는 다음 조회 때 DB에서 다시 만든다.
+ */
+@Component
+public class TodoTitleSuggester implements MeterBinder {
+
+    // 스냅샷과 별개로 사용자 항목 하나가 차지하는 대략적인 크기 (맵 엔트리, 락, stale 집합)
+    private static final int USER_OVERHEAD_BYTES = 256;
+
+    private final long maxBytes;
+    private final int maxUsers;
+    private final ReentrantLock lock = new ReentrantLock();
+    // accessOrder = true : 가장 오래 사용하지 않은 사용자가 맨 앞
+    private final LinkedHashMap<Long, UserTitles> users = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder evictions = new LongAdder();
+    private long usedBytes;
+
+    public TodoTitleSuggester(
+            @Value("${todo.suggest.max-memory:64MB}") DataSize maxMemory,
+            @Value("${todo.suggest.max-users:10000}") int maxUsers) {
+        this.maxBytes = maxMemory.toBytes();
+        this.maxUsers = maxUsers;
+    }
+
+    /**
+     * 접두사로 시작하는 제목을 사전 순으로 limit개 찾아 최근 수정 순으로 반환 (같은 제목은 한 번만)
+     *
+     * @param userId 사용자 id
+     * @param prefix 입력 중인 제목 (대소문자 구분 없음)
+     * @param limit 최대 개수
+     * @param loadAll 사용자의 전체 Todo 조회 (처음 또는 제거된 뒤)
+     * @param loadByIds 사용자의 Todo 중 주어진 id만 조회 (변경된 Todo 갱신)
+     */
+    public List<String> suggest(
+            long userId,
+            String prefix,
+            int limit,
+            Supplier<List<TodoView>> loadAll,
+            Function<Collection<Long>, List<TodoView>> loadByIds) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        UserTitles titles = acquire(userId);
+        Snapshot snapshot = titles.refresh(loadAll, loadByIds);
+        account(userId, titles, snapshot);
+
+        return snapshot.suggest(key, limit);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        UserTitles titles;
+        lock.lock();
+        try {
+            titles = users.get(event.userId());
+        } finally {
+            lock.unlock();
+        }
+        if (titles != null) {
+            titles.staleIds.addAll(event.todoIds());
+        }
+    }
+
+    public long usedBytes() {
+        lock.lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("todo.suggest.memory", this, TodoTitleSuggester::usedBytes)
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("todo.suggest.users", this, suggester -> suggester.userCount())
+                .register(registry);
+        FunctionCounter.builder("todo.suggest.evictions", evictions, LongAdder::sum)
+                .register(registry);
+    }
+
+    private int userCount() {
+        lock.lock();
+        try {
+            return users.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 사용자 항목을 가져오고, 없으면 비어 있는 항목을 먼저 등록
+     * 읽기 전에 등록해야 읽는 도중 커밋된 변경도 stale로 표시된다.
+     */
+    private UserTitles acquire(long userId) {
+        lock.lock();
+        try {
+            UserTitles titles = users.get(userId);
+            if (titles == null) {
+                titles = new UserTitles();
+                users.put(userId, titles);
+                usedBytes += titles.accountedBytes;
+                evictOverLimit(userId);
+            }
+            return titles;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 크기 변화를 반영하고, 한도를 넘으면 오래된 사용자부터 제거
+     */
+    private void account(long userId, UserTitles titles, Snapshot snapshot) {
+        lock.lock();
+        try {
+            long bytes = USER_OVERHEAD_BYTES + snapshot.bytes;
+            if (users.get(userId) != titles || titles.accountedBytes == bytes) {
+                return;
+            }
+            usedBytes += bytes - titles.accountedBytes;
+            titles.accountedBytes = bytes;
+            evictOverLimit(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 메모리 한도나 사용자 수 한도를 넘으면 오래된 사용자부터 제거 - lock을 잡은 상태에서 호출한다.
+     */
+    private void evictOverLimit(long keepUserId) {
+        Iterator<Map.Entry<Long, UserTitles>> iterator = users.entrySet().iterator();
+        while ((usedBytes > maxBytes || users.size() > maxUsers) && iterator.hasNext()) {
+            Map.Entry<Long, UserTitles> eldest = iterator.next();
+            if (eldest.getKey() == keepUserId) {
+                continue;  // 방금 사용한 사용자는 남긴다
+            }
+            iterator.remove();
+            usedBytes -= eldest.getValue().accountedBytes;
+            evictions.increment();
+        }
+    }
+
+    private static String normalize(String title) {
+        if (title == null) {
+            return "";
+        }
+        return Normalizer.normalize(title, Normalizer.Form.NFKC).strip().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 사용자 한 명의 제목 스냅샷과 갱신 대기 중인 Todo id
+     */
+    private static final class UserTitles {
+
+        private final ReentrantLock refreshLock = new ReentrantLock();
+        private final Set<Long> staleIds = ConcurrentHashMap.newKeySet();
+        private volatile Snapshot snapshot;
+        private long accountedBytes = USER_OVERHEAD_BYTES;  // TodoTitleSuggester.lock으로 보호
+
+        private Snapshot refresh(Supplier<List<TodoView>> loadAll, Function<Collection<Long>, List<TodoView>> loadByIds) {
+            Snapshot current = snapshot;
+            if (current != null && staleIds.isEmpty()) {
+                return current;
+            }
+
+            refreshLock.lock();
+            try {
+                if (snapshot == null) {
+                    snapshot = Snapshot.of(loadAll.get());
+                }
+                if (!staleIds.isEmpty()) {
+                    List<Long> ids = new ArrayList<>(staleIds);
+                    staleIds.removeAll(ids);
+                    snapshot = snapshot.apply(ids, loadByIds.apply(ids));
+                }
+                return snapshot;
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 한 사용자의 제목 배열 (불변)
+     * Todo별 배열은 변경을 반영할 때, 제목별 배열은 자동완성 조회에 사용한다.
+     *
+     * 변경 반영은 전체를 다시 정렬하지 않고, 바뀐 Todo만 빼고 새 값을 정렬된 배열 사이에 끼워 넣는다. (Todo 수에 비례)
+     * 제목별 배열도 바뀐 Todo의 키만 대표 제목을 다시 고른다.
+     */
+    private static final class Snapshot {
+
+        // 대략적인 객체 크기 (메모리 한도 계산용)
+        private static final int STRING_OVERHEAD = 40;
+        private static final int TODO_SLOT_BYTES = 32;  // id, 수정 시각, 제목/키 참조
+        private static final int KEY_SLOT_BYTES = 24;   // 키/제목 참조, 최근 수정 시각
+
+        // Todo별 - id 오름차순
+        private final long[] todoIds;
+        private final String[] todoTitles;
+        private final String[] todoKeys;
+        private final long[] todoUpdated;
+
+        // 정규화한 제목별 - 사전 순, 중복 없음
+        // 대표 제목은 그 키 중 가장 최근 수정된 Todo (같으면 id가 작은 것)
+        private final String[] keys;
+        private final String[] titles;
+        private final long[] lastUpdated;
+
+        private final long bytes;
+
+        private Snapshot(long[] todoIds, String[] todoTitles, String[] todoKeys, long[] todoUpdated,
+                         String[] keys, String[] titles, long[] lastUpdated) {
+            this.todoIds = todoIds;
+            this.todoTitles = todoTitles;
+            this.todoKeys = todoKeys;
+            this.todoUpdated = todoUpdated;
+            this.keys = keys;
+            this.titles = titles;
+            this.lastUpdated = lastUpdated;
+
+            long size = 0;
+            for (String title : todoTitles) {
+                size += TODO_SLOT_BYTES + STRING_OVERHEAD + 2L * title.length();
+            }
+            for (String key : keys) {
+                size += KEY_SLOT_BYTES + STRING_OVERHEAD + 2L * key.length();
+            }
+            this.bytes = size;
+        }
+
+        private static Snapshot of(List<TodoView> todos) {
+            List<Row> rows = new ArrayList<>(todos.size());
+            todos.forEach(todo -> rows.add(Row.from(todo)));
+            rows.sort(Comparator.comparingLong(Row::id));
+
+            int todoCount = rows.size();
+            long[] todoIds = new long[todoCount];
+            String[] todoTitles = new String[todoCount];
+            String[] todoKeys = new String[todoCount];
+            long[] todoUpdated = new long[todoCount];
+
+            // 키별 대표 Todo의 위치 (같은 키는 처음 나온 String 객체를 공유)
+            Map<String, Integer> representatives = new HashMap<>();
+            for (int i = 0; i < todoCount; i++) {
+                Row row = rows.get(i);
+                todoIds[i] = row.id();
+                todoTitles[i] = row.title();
+                todoUpdated[i] = row.updated();
+                Integer best = representatives.get(row.key());
+                if (best == null) {
+                    todoKeys[i] = row.key();
+                    representatives.put(row.key(), i);
+                } else {
+                    todoKeys[i] = todoKeys[best];
+                    if (todoUpdated[i] > todoUpdated[best]) {
+                        representatives.put(row.key(), i);
+                    }
+                }
+            }
+
+            // 정렬은 Todo 수가 아니라 서로 다른 키 수만큼만
+            String[] keys = representatives.keySet().toArray(String[]::new);
+            Arrays.sort(keys);
+            String[] titles = new String[keys.length];
+            long[] lastUpdated = new long[keys.length];
+            for (int k = 0; k < keys.length; k++) {
+                int best = representatives.get(keys[k]);
+                titles[k] = todoTitles[best];
+                lastUpdated[k] = todoUpdated[best];
+            }
+            return new Snapshot(todoIds, todoTitles, todoKeys, todoUpdated, keys, titles, lastUpdated);
+        }
+
+        /**
+         * 바뀐 Todo만 교체한 새 스냅샷
+         *
+         * @param changedIds 변경된 Todo id
+         * @param current 그중 아직 남아 있는 Todo의 현재 값 (삭제된 것은 빠져 있음)
+         */
+        private Snapshot apply(Collection<Long> changedIds, List<TodoView> current) {
+            // 새 값 - id 순, 키는 기존 String 객체를 공유
+            Map<String, String> canonicalKeys = new HashMap<>();
+            List<Row> added = new ArrayList<>(current.size());
+            for (TodoView todo : current) {
+                Row row = Row.from(todo);
+                String key = canonicalKeys.computeIfAbsent(row.key(), k -> {
+                    int at = Arrays.binarySearch(keys, k);
+                    return at >= 0 ? keys[at] : k;
+                });
+                added.add(new Row(row.id(), row.title(), key, row.updated()));
+            }
+            added.sort(Comparator.comparingLong(Row::id));
+
+            // 대표 제목을 다시 골라야 하는 키 -> 새 배열에서 대표 Todo의 위치 (-1 = 아직 없음)
+            Map<String, Integer> affected = new HashMap<>();
+            boolean[] removed = new boolean[todoIds.length];
+            int removedCount = 0;
+            List<Long> replacedIds = new ArrayList<>(changedIds);
+            added.forEach(row -> replacedIds.add(row.id()));
+            for (long id : replacedIds) {
+                int at = Arrays.binarySearch(todoIds, id);
+                if (at >= 0 && !removed[at]) {
+                    removed[at] = true;
+                    removedCount++;
+                    affected.put(todoKeys[at], -1);
+                }
+            }
+            added.forEach(row -> affected.put(row.key(), -1));
+
+            // Todo별 배열 - 남은 기존 값과 새 값을 id 순으로 병합
+            int todoCount = todoIds.length - removedCount + added.size();
+            long[] newIds = new long[todoCount];
+            String[] newTitles = new String[todoCount];
+            String[] newTodoKeys = new String[todoCount];
+            long[] newUpdated = new long[todoCount];
+            int i = 0;
+            int a = 0;
+            for (int j = 0; j < todoCount; j++) {
+                while (i < todoIds.length && removed[i]) {
+                    i++;
+                }
+                if (a < added.size() && (i == todoIds.length || added.get(a).id() < todoIds[i])) {
+                    Row row = added.get(a++);
+                    newIds[j] = row.id();
+                    newTitles[j] = row.title();
+                    newTodoKeys[j] = row.key();
+                    newUpdated[j] = row.updated();
+                } else {
+                    newIds[j] = todoIds[i];
+                    newTitles[j] = todoTitles[i];
+                    newTodoKeys[j] = todoKeys[i];
+                    newUpdated[j] = todoUpdated[i];
+                    i++;
+                }
+
+                Integer best = affected.get(newTodoKeys[j]);
+                if (best != null && (best < 0 || newUpdated[j] > newUpdated[best])) {
+                    affected.put(newTodoKeys[j], j);
+                }
+            }
+
+            // 제목별 배열 - 영향 없는 키는 그대로, 영향받은 키는 남아 있는 것만 사전 순으로 병합
+            String[] changedKeys = affected.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= 0)
+                    .map(Map.Entry::getKey)
+                    .sorted()
+                    .toArray(String[]::new);
+            int keyCapacity = keys.length + changedKeys.length;
+            String[] newKeys = new String[keyCapacity];
+            String[] newKeyTitles = new String[keyCapacity];
+            long[] newLastUpdated = new long[keyCapacity];
+            int keyCount = 0;
+            int c = 0;
+            for (int k = 0; k <= keys.length; k++) {
+                String key = k < keys.length ? keys[k] : null;
+                while (c < changedKeys.length && (key == null || changedKeys[c].compareTo(key) <= 0)) {
+                    int best = affected.get(changedKeys[c]);
+                    newKeys[keyCount] = changedKeys[c++];
+                    newKeyTitles[keyCount] = newTitles[best];
+                    newLastUpdated[keyCount] = newUpdated[best];
+                    keyCount++;
+                }
+                if (key != null && !affected.containsKey(key)) {
+                    newKeys[keyCount] = key;
+                    newKeyTitles[keyCount] = titles[k];
+                    newLastUpdated[keyCount] = lastUpdated[k];
+                    keyCount++;
+                }
+            }
+
+            return new Snapshot(newIds, newTitles, newTodoKeys, newUpdated,
+                    Arrays.copyOf(newKeys, keyCount),
+                    Arrays.copyOf(newKeyTitles, keyCount),
+                    Arrays.copyOf(newLastUpdated, keyCount));
+        }
+
+        private List<String> suggest(String prefix, int limit) {
+            // prefix로 시작하는 키는 정렬된 배열에서 연속 구간에 모여 있다
+            int from = Arrays.binarySearch(keys, prefix);
+            if (from < 0) {
+                from = -from - 1;
+            }
+
+            // 구간 앞에서 limit개만 보고 멈춘 뒤 최근 수정 순으로 (limit이 작으므로 삽입 정렬)
+            int[] top = new int[limit];
+            int count = 0;
+            for (int i = from; count < limit && i < keys.length && keys[i].startsWith(prefix); i++) {
+                int position = count++;
+                while (position > 0 && lastUpdated[top[position - 1]] < lastUpdated[i]) {
+                    top[position] = top[position - 1];
+                    position--;
+                }
+                top[position] = i;
+            }
+
+            List<String> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(titles[top[i]]);
+            }
+            return result;
+        }
+    }
+
+    private record Row(long id, String title, String key, long updated) {
+
+        private static Row from(TodoView todo) {
+            Instant updatedDate = todo.updatedDate() != null ? todo.updatedDate() : todo.createdDate();
+            return new Row(todo.id(), todo.title(), normalize(todo.title()),
+                    updatedDate == null ? 0 : updatedDate.toEpochMilli());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.todoapp.implement.todo;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토큰 분리
+ * 문자/숫자가 아닌 문자로 단어를 나누고, 소문자로 맞춘다.
+ * 한글/한자/가나처럼 띄어쓰기로 단어가 나뉘지 않는 글자는 2글자씩 겹쳐 자른다. (바이그램)
+ * 예: "스프링 공부" -> [스프, 프링, 공부], "JPA study" -> [jpa, study]
+ */
+public final class TodoTokenizer {
+
+    private TodoTokenizer() {
+    }
+
+    /**
+     * @return 등장 순서대로의 토큰 (중복 포함)
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+
+        // 전각/반각, 조합형 한글 등을 같은 문자로 맞춘다
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        List<String> tokens = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        boolean cjkWord = false;
+
+        int i = 0;
+        while (i < normalized.length()) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (!Character.isLetterOrDigit(codePoint)) {
+                flush(word, cjkWord, tokens);
+                continue;
+            }
+
+            boolean cjk = isCjk(codePoint);
+            if (cjk != cjkWord) {
+                flush(word, cjkWord, tokens);
+                cjkWord = cjk;
+            }
+            word.appendCodePoint(codePoint);
+        }
+        flush(word, cjkWord, tokens);
+
+        return tokens;
+    }
+
+    private static void flush(StringBuilder word, boolean cjk, List<String> tokens) {
+        if (word.isEmpty()) {
+            return;
+        }
+
+        if (!cjk) {
+            tokens.add(word.toString());
+        } else {
+            int[] codePoints = word.codePoints().toArray();
+            if (codePoints.length == 1) {
+                tokens.add(word.toString());
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+        word.setLength(0);
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
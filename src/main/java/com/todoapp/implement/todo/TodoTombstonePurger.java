@@ -0,0 +1,94 @@
+package com.todoapp.implement.todo;
+
+import com.todoapp.dataaccess.repository.TodoTombstoneRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 오래된 삭제 기록 정리 작업
+ * 삭제 기록은 델타 동기화에만 쓰이므로 보관 기간(todo.sync.tombstone-retention)이 지나면 지우고,
+ * 지운 마지막 순번을 사용자별로 남겨 그보다 오래된 토큰에는 전체 목록을 다시 내려준다.
+ * 사용자 단위로 트랜잭션을 나누어 한 사용자의 쓰기만 잠깐 막는다.
+ */
+@Slf4j
+@Component
+public class TodoTombstonePurger implements MeterBinder {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final TodoTombstoneRepository todoTombstoneRepository;
+    private final TodoChangeSequencer todoChangeSequencer;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final LongAdder purged = new LongAdder();
+
+    public TodoTombstonePurger(
+            TodoTombstoneRepository todoTombstoneRepository,
+            TodoChangeSequencer todoChangeSequencer,
+            TransactionTemplate transactionTemplate,
+            @Value("${todo.sync.tombstone-retention:30d}") Duration retention) {
+        this.todoTombstoneRepository = todoTombstoneRepository;
+        this.todoChangeSequencer = todoChangeSequencer;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = retention;
+    }
+
+    @Scheduled(
+            initialDelayString = "${todo.sync.purge-interval:1h}",
+            fixedDelayString = "${todo.sync.purge-interval:1h}")
+    public void purgeAll() {
+        Instant before = Instant.now().minus(retention);
+        long after = 0;
+        while (true) {
+            List<Long> userIds = todoTombstoneRepository.findUserIdsDeletedBefore(before, after, Limit.of(BATCH_SIZE));
+            for (Long userId : userIds) {
+                try {
+                    purge(userId, before);
+                } catch (RuntimeException e) {
+                    log.warn("삭제 기록 정리 실패: userId={}", userId, e);
+                }
+            }
+            if (userIds.size() < BATCH_SIZE) {
+                return;
+            }
+            after = userIds.getLast();
+        }
+    }
+
+    /**
+     * 한 사용자의 before 전 삭제 기록 정리 (별도 트랜잭션)
+     * 같은 순번(한 트랜잭션)의 기록이 나뉘지 않도록 before 전 마지막 순번 이하를 모두 지운다.
+     *
+     * @return 지운 삭제 기록 수
+     */
+    public int purge(long userId, Instant before) {
+        Integer deleted = transactionTemplate.execute(status -> todoTombstoneRepository
+                .findLastChangeSeqDeletedBefore(userId, before)
+                .map(upTo -> {
+                    // 순번 행을 먼저 잠가 진행 중인 쓰기가 끝난 뒤에 지운다 (기록과 삭제는 함께 커밋된다)
+                    todoChangeSequencer.markPurged(userId, upTo);
+                    return todoTombstoneRepository.deleteUpTo(userId, upTo);
+                })
+                .orElse(0));
+        int count = deleted == null ? 0 : deleted;
+        purged.add(count);
+        return count;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("todo.sync.tombstones.purged", purged, LongAdder::sum)
+                .register(registry);
+    }
+}
@@ -0,0 +1,69 @@
+package com.todoapp.implement.todo;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자별 버전 번호 표 (사용자 수 제한)
+ * 버전은 전역 순번에서 받으므로 한 번 나간 번호는 어떤 사용자에게도 다시 나오지 않는다.
+ *
+ * 사용자 수가 maxUsers를 넘으면 가장 오래전에 바뀐 절반을 지우고, 지운 번호 중 가장 큰 값을 floor로 남긴다.
+ * 표에 없는 사용자는 floor를 현재 버전으로 본다.
+ * floor는 지워진 사용자의 마지막 버전 이상이고 그 전 내용에 나간 번호보다 크므로, 내용이 바뀌었는데 같은 버전이 나오지는 않는다.
+ * 대신 표에서 지워진 사용자는 floor가 올라갈 때 내용이 같아도 버전이 바뀐다. (다음 비교가 한 번 어긋나는 정도)
+ */
+final class UserVersionTable {
+
+    private final int maxUsers;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    private final ReentrantLock pruneLock = new ReentrantLock();
+    private volatile long floor;
+
+    UserVersionTable(int maxUsers) {
+        this.maxUsers = Math.max(1, maxUsers);
+    }
+
+    long current(long userId) {
+        Long version = versions.get(userId);
+        return version != null ? version : floor;
+    }
+
+    /**
+     * 사용자의 버전을 새 번호로 올린다.
+     */
+    long bump(long userId) {
+        long version = sequence.incrementAndGet();
+        versions.merge(userId, version, Math::max);
+        if (versions.size() > maxUsers) {
+            prune();
+        }
+        return version;
+    }
+
+    int size() {
+        return versions.size();
+    }
+
+    private void prune() {
+        if (!pruneLock.tryLock()) {
+            return;  // 다른 스레드가 정리 중
+        }
+        try {
+            if (versions.size() <= maxUsers) {
+                return;
+            }
+            long[] sorted = versions.values().stream().mapToLong(Long::longValue).sorted().toArray();
+            long threshold = sorted[sorted.length / 2];
+
+            // floor를 먼저 올려야 지워진 직후 조회한 사용자도 자기 마지막 버전 이상을 본다
+            floor = Math.max(floor, threshold);
+            // 그 사이 새 번호를 받은 사용자는 값이 바뀌었으므로 지워지지 않는다
+            versions.values().removeIf(version -> version <= threshold);
+        } finally {
+            pruneLock.unlock();
+        }
+    }
+}
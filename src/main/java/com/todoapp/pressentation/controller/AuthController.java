@@ -1,17 +1,23 @@
 package com.todoapp.pressentation.controller;
 
 import com.todoapp.dataaccess.entity.User;
+import com.todoapp.common.security.JwtAuthenticationFilter;
 import com.todoapp.pressentation.dto.request.LoginRequest;
+import com.todoapp.pressentation.dto.request.LogoutRequest;
 import com.todoapp.pressentation.dto.request.SignUpRequest;
+import com.todoapp.pressentation.dto.request.TokenRefreshRequest;
 import com.todoapp.pressentation.dto.response.LoginResponse;
 import com.todoapp.pressentation.dto.response.SignUpResponse;
+import com.todoapp.pressentation.dto.response.TokenRefreshResponse;
 import com.todoapp.business.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -38,4 +44,18 @@ public class AuthController {
         LoginResponse response = userService.login(request);
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenRefreshResponse> refresh(@Valid @RequestBody TokenRefreshRequest request) {
+        TokenRefreshResponse response = userService.refresh(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+            @RequestBody(required = false) LogoutRequest request) {
+        userService.logout(JwtAuthenticationFilter.resolveBearerToken(authorization), request);
+        return ResponseEntity.noContent().build();
+    }
 }
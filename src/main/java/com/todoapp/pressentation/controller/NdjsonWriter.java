@@ -0,0 +1,39 @@
+package com.todoapp.pressentation.controller;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * 객체를 한 줄에 하나씩 JSON으로 써 내려가는 NDJSON Writer
+ * 첫 줄은 바로 flush해서 목록 크기와 무관하게 응답이 즉시 시작되게 한다.
+ */
+class NdjsonWriter implements Consumer<Object> {
+
+    private static final int FLUSH_INTERVAL = 256;
+
+    private final OutputStream outputStream;
+    private final ObjectMapper objectMapper;
+    private long written;
+
+    NdjsonWriter(OutputStream outputStream, ObjectMapper objectMapper) {
+        this.outputStream = outputStream;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void accept(Object value) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(value));
+            outputStream.write('\n');
+
+            if (++written == 1 || written % FLUSH_INTERVAL == 0) {
+                outputStream.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,21 +1,46 @@
 package com.todoapp.pressentation.controller;
 
 import com.todoapp.business.service.TodoService;
+import com.todoapp.common.exception.TodoVersionConflictException;
+import com.todoapp.implement.todo.TodoIdempotencyStore;
+import com.todoapp.pressentation.dto.request.TodoBulkCreateRequest;
+import com.todoapp.pressentation.dto.request.TodoBulkIdsRequest;
 import com.todoapp.pressentation.dto.request.TodoCreateRequest;
+import com.todoapp.pressentation.dto.request.TodoFilterRequest;
+import com.todoapp.pressentation.dto.request.UpdateTodoRequest;
+import com.todoapp.pressentation.dto.response.CursorPageResponse;
+import com.todoapp.pressentation.dto.response.SearchPageResponse;
+import com.todoapp.pressentation.dto.response.TodoBulkResponse;
+import com.todoapp.pressentation.dto.response.TodoChangesResponse;
 import com.todoapp.pressentation.dto.response.TodoResponse;
+import com.todoapp.pressentation.dto.response.TodoStatsResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
 
 @RestController
 @RequestMapping("/api/todos")
@@ -23,34 +48,233 @@ import org.springframework.web.bind.annotation.RestController;
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoIdempotencyStore todoIdempotencyStore;
+    private final ObjectMapper objectMapper;
 
+    /**
+     * 쓰기 API는 모두 Idempotency-Key 헤더를 받는다.
+     * 같은 키로 다시 보내면 처리하지 않고 첫 응답을 그대로 돌려준다. (TodoIdempotencyStore)
+     */
     @PostMapping
-    public ResponseEntity<TodoResponse> createTodo(@Valid @RequestBody TodoCreateRequest request) {
-        TodoResponse response = todoService.createTodo(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    public ResponseEntity<TodoResponse> createTodo(
+            @Valid @RequestBody TodoCreateRequest request,
+            @RequestHeader(value = TodoIdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return todoIdempotencyStore.execute(idempotencyKey, "createTodo", request, () -> {
+            TodoResponse response = todoService.createTodo(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        });
     }
 
+    /**
+     * 목록 조회 - 완료 여부, 생성/수정 기간, 제목 접두사로 거르고 정렬할 수 있다.
+     * If-None-Match가 현재 목록 버전과 같으면 목록을 읽지 않고 304 응답
+     * (목록 버전은 어떤 변경에도 올라가므로 조건이 붙은 조회에도 그대로 쓸 수 있다)
+     */
     @GetMapping
-    public ResponseEntity<List<TodoResponse>> findAll() {
-        List<TodoResponse> responses = todoService.findAll();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<List<TodoResponse>> findAll(
+            @ModelAttribute TodoFilterRequest filter, WebRequest webRequest) {
+        String eTag = todoService.findAllETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        List<TodoResponse> responses = todoService.findAll(filter.toFilter());
+        return ResponseEntity.ok().eTag(eTag).body(responses);
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageResponse<TodoResponse>> findPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageResponse<TodoResponse> response = todoService.findPage(cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 대시보드 통계 - 전체/완료/남은 개수와 최근 days일의 일별 완료 수
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<TodoStatsResponse> findStats(@RequestParam(required = false) Integer days) {
+        TodoStatsResponse response = todoService.findStats(days);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 델타 동기화 - since(이전 응답의 syncToken) 이후 바뀐 Todo와 삭제된 id만 반환
+     * since 없이 요청하면 전체 목록과 첫 syncToken을 받는다.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<TodoChangesResponse> findChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit) {
+        TodoChangesResponse response = todoService.findChanges(since, limit);
+        return ResponseEntity.ok(response);
     }
 
+    /**
+     * 제목/설명 전문 검색 - 관련도 순, page는 0부터
+     */
+    @GetMapping("/search")
+    public ResponseEntity<SearchPageResponse<TodoResponse>> search(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        SearchPageResponse<TodoResponse> response = todoService.search(q, page, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 제목 자동완성 - 접두사로 시작하는 최근 제목 목록
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<String>> suggest(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(required = false) Integer limit) {
+        List<String> titles = todoService.suggestTitles(prefix, limit);
+        return ResponseEntity.ok(titles);
+    }
+
+    /**
+     * 변경 알림 (Server-Sent Events) - 목록을 주기적으로 다시 읽는 대신 변경이 있을 때만 알림을 받는다.
+     * 이벤트 이름: created, updated, completed, deleted, 연결 직후 ready 또는 reset(목록을 다시 받아야 함)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return todoService.subscribeChanges(lastEventId);
+    }
+
+    /**
+     * 전체 Todo를 NDJSON(한 줄에 Todo 하나)으로 스트리밍
+     * DB에서 읽는 대로 바로 응답에 쓰므로 목록 전체를 메모리에 올리지 않는다.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportTodos(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        OutputStream outputStream = response.getOutputStream();
+        todoService.exportTodos(new NdjsonWriter(outputStream, objectMapper));
+        outputStream.flush();
+    }
+
+    /**
+     * 단건 조회 - If-None-Match가 있으면 버전만 먼저 읽어 비교하고, 같으면 본문을 읽지 않고 304 응답
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<TodoResponse> findById(@PathVariable Long id) {
+    public ResponseEntity<TodoResponse> findById(@PathVariable Long id, WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(eTagOf(todoService.findVersion(id)))) {
+            return null;
+        }
+
         TodoResponse response = todoService.findById(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTagOf(response)).body(response);
+    }
+
+    /**
+     * 제목/설명 수정 - If-Match가 있으면 그 버전일 때만 수정하고, 아니면 412
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<TodoResponse> updateTodo(
+            @PathVariable Long id,
+            @Valid @RequestBody UpdateTodoRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = TodoIdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return todoIdempotencyStore.execute(idempotencyKey, "updateTodo", Arrays.asList(id, request, ifMatch), () -> {
+            TodoResponse response = todoService.updateTodo(id, request, parseIfMatch(ifMatch));
+            return ResponseEntity.ok().eTag(eTagOf(response)).body(response);
+        });
     }
 
     @PatchMapping("/{id}/complete")
-    public ResponseEntity<Void> completeTodo(@PathVariable Long id) {
-        todoService.completeTodo(id);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<Void> completeTodo(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = TodoIdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return todoIdempotencyStore.execute(idempotencyKey, "completeTodo", Arrays.asList(id, ifMatch), () -> {
+            todoService.completeTodo(id, parseIfMatch(ifMatch));
+            return ResponseEntity.ok().build();
+        });
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteTodo(@PathVariable Long id) {
-        todoService.deleteTodo(id);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<Void> deleteTodo(
+            @PathVariable Long id,
+            @RequestHeader(value = TodoIdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return todoIdempotencyStore.execute(idempotencyKey, "deleteTodo", id, () -> {
+            todoService.deleteTodo(id);
+            return ResponseEntity.noContent().build();
+        });
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<TodoBulkResponse> createTodos(
+            @Valid @RequestBody TodoBulkCreateRequest request,
+            @RequestHeader(value = TodoIdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return todoIdempotencyStore.execute(idempotencyKey, "createTodos", request, () -> {
+            TodoBulkResponse response = todoService.createTodos(request.getItems());
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        });
+    }
+
+    @PatchMapping("/bulk/complete")
+    public ResponseEntity<TodoBulkResponse> completeTodos(
+            @Valid @RequestBody TodoBulkIdsRequest request,
+            @RequestHeader(value = TodoIdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return todoIdempotencyStore.execute(idempotencyKey, "completeTodos", request, () -> {
+            TodoBulkResponse response = todoService.completeTodos(request.getIds());
+            return ResponseEntity.ok(response);
+        });
+    }
+
+    // DELETE 요청 본문은 지원하지 않는 클라이언트/프록시가 있어 POST 사용
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<TodoBulkResponse> deleteTodos(
+            @Valid @RequestBody TodoBulkIdsRequest request,
+            @RequestHeader(value = TodoIdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return todoIdempotencyStore.execute(idempotencyKey, "deleteTodos", request, () -> {
+            TodoBulkResponse response = todoService.deleteTodos(request.getIds());
+            return ResponseEntity.ok(response);
+        });
+    }
+
+    // 단건 ETag (strong) - 버전이 같으면 같은 응답
+    private static String eTagOf(TodoResponse todo) {
+        return eTagOf(todo.getVersion());
+    }
+
+    private static String eTagOf(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * If-Match 값에서 버전 목록 추출, 없거나 * 이면 null (버전을 비교하지 않음)
+     * If-Match는 강한 비교이므로 약한 ETag(W/)는 어떤 버전과도 일치하지 않는다.
+     * 일치할 수 있는 값이 하나도 없으면 (약한 ETag, 이 서버가 발급하지 않은 ETag) 바로 412
+     */
+    private static List<Long> parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+
+        List<Long> versions = new ArrayList<>();
+        for (String tag : ifMatch.split(",")) {
+            String value = tag.trim();
+            if (value.equals("*")) {
+                return null;
+            }
+            if (value.length() < 2 || !value.startsWith("\"") || !value.endsWith("\"")) {
+                continue;
+            }
+            try {
+                versions.add(Long.parseLong(value.substring(1, value.length() - 1)));
+            } catch (NumberFormatException e) {
+                // 이 서버가 발급하지 않은 ETag는 현재 버전과 일치할 수 없다
+            }
+        }
+        if (versions.isEmpty()) {
+            throw new TodoVersionConflictException();
+        }
+        return versions;
     }
 }
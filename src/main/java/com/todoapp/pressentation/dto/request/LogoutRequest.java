@@ -0,0 +1,14 @@
+package com.todoapp.pressentation.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogoutRequest {
+
+    // 함께 폐기할 Refresh Token (선택)
+    private String refreshToken;
+}
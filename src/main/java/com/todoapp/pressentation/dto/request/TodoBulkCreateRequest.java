@@ -0,0 +1,18 @@
+package com.todoapp.pressentation.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBulkCreateRequest {
+
+    @NotEmpty(message = "생성할 Todo가 없습니다.")
+    private List<@NotNull @Valid TodoCreateRequest> items;
+}
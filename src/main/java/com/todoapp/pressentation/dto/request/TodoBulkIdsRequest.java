@@ -0,0 +1,17 @@
+package com.todoapp.pressentation.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBulkIdsRequest {
+
+    @NotEmpty(message = "처리할 Todo id가 없습니다.")
+    private List<@NotNull Long> ids;
+}
@@ -0,0 +1,32 @@
+package com.todoapp.pressentation.dto.request;
+
+import com.todoapp.dataaccess.repository.TodoFilter;
+import com.todoapp.dataaccess.repository.TodoSort;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 목록 조회 쿼리 파라미터
+ * 시각은 ISO-8601 (예: 2025-01-01T00:00:00Z), 범위는 from 이상 to 미만
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoFilterRequest {
+
+    private Boolean completed;
+    private Instant createdFrom;
+    private Instant createdTo;
+    private Instant updatedFrom;
+    private Instant updatedTo;
+    private String titlePrefix;
+    private TodoSort sort;
+
+    public TodoFilter toFilter() {
+        return new TodoFilter(completed, createdFrom, createdTo, updatedFrom, updatedTo, titlePrefix, sort);
+    }
+}
@@ -0,0 +1,14 @@
+package com.todoapp.pressentation.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    private List<T> items;
+    private String nextCursor;  // 다음 페이지 요청 시 그대로 전달, 마지막 페이지면 null
+    private boolean hasNext;
+}
@@ -0,0 +1,13 @@
+package com.todoapp.pressentation.dto.response;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class DailyCompletionResponse {
+
+    private LocalDate date;
+    private long completions;
+}
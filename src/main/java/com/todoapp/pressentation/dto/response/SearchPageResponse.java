@@ -0,0 +1,16 @@
+package com.todoapp.pressentation.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SearchPageResponse<T> {
+
+    private List<T> items;
+    private int page;        // 0부터 시작
+    private int size;
+    private long totalHits;  // 검색어와 일치한 전체 건수
+    private boolean hasNext;
+}
@@ -0,0 +1,23 @@
+package com.todoapp.pressentation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TodoBulkItemResult {
+
+    private Long id;
+    private Status status;
+
+    public enum Status {
+        CREATED,
+        COMPLETED,
+        DELETED,
+        NOT_FOUND   // 존재하지 않거나 다른 사용자의 Todo
+    }
+
+    public boolean isSucceeded() {
+        return status != Status.NOT_FOUND;
+    }
+}
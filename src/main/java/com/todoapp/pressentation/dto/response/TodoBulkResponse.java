@@ -0,0 +1,19 @@
+package com.todoapp.pressentation.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TodoBulkResponse {
+
+    private List<TodoBulkItemResult> results;  // 요청 순서와 동일
+    private int succeeded;
+    private int failed;
+
+    public static TodoBulkResponse from(List<TodoBulkItemResult> results) {
+        int succeeded = (int) results.stream().filter(TodoBulkItemResult::isSucceeded).count();
+        return new TodoBulkResponse(results, succeeded, results.size() - succeeded);
+    }
+}
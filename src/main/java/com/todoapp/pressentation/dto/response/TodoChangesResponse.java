@@ -0,0 +1,16 @@
+package com.todoapp.pressentation.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TodoChangesResponse {
+
+    private List<TodoResponse> changed;  // 생성/수정/완료된 Todo (변경 순번 순)
+    private List<Long> deletedIds;       // 삭제된 Todo id (변경 순번 순)
+    private String syncToken;            // 다음 요청의 since로 그대로 전달
+    private boolean hasMore;             // true면 syncToken으로 바로 이어서 요청
+    private boolean reset;               // true면 since가 삭제 기록 보관 기간보다 오래됨 - 로컬 목록을 비우고 이 응답부터 다시 채운다
+}
@@ -1,6 +1,7 @@
 package com.todoapp.pressentation.dto.response;
 
 import com.todoapp.dataaccess.entity.Todo;
+import com.todoapp.dataaccess.projection.TodoView;
 import java.time.Instant;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -14,6 +15,8 @@ public class TodoResponse {
     private String description;
     private boolean completed;
     private Instant createdAt;
+    private Instant updatedAt;
+    private Long version;
 
     public static TodoResponse from(Todo todo) {
         return new TodoResponse(
@@ -21,7 +24,21 @@ public class TodoResponse {
                 todo.getTitle(),
                 todo.getDescription(),
                 todo.isCompleted(),
-                todo.getCreatedDate()
+                todo.getCreatedDate(),
+                todo.getUpdatedDate(),
+                todo.getVersion()
+        );
+    }
+
+    public static TodoResponse from(TodoView todo) {
+        return new TodoResponse(
+                todo.id(),
+                todo.title(),
+                todo.description(),
+                todo.completed(),
+                todo.createdDate(),
+                todo.updatedDate(),
+                todo.version()
         );
     }
 }
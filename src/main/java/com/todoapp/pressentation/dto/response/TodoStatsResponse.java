@@ -0,0 +1,15 @@
+package com.todoapp.pressentation.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TodoStatsResponse {
+
+    private long totalCount;
+    private long completedCount;
+    private long pendingCount;
+    private List<DailyCompletionResponse> daily;  // 오래된 날짜부터, 완료가 없는 날은 0
+}
@@ -0,0 +1,12 @@
+package com.todoapp.pressentation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TokenRefreshResponse {
+
+    private String accessToken;
+    private String refreshToken;
+}
@@ -0,0 +1,97 @@
+package com.todoapp.auth.integration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.todoapp.business.service.UserService;
+import com.todoapp.common.exception.InvalidTokenException;
+import com.todoapp.pressentation.dto.request.LoginRequest;
+import com.todoapp.pressentation.dto.request.SignUpRequest;
+import com.todoapp.pressentation.dto.request.TokenRefreshRequest;
+import com.todoapp.pressentation.dto.response.LoginResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class LogoutIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    private LoginResponse loginResponse;
+
+    @BeforeEach
+    void setUp() {
+        SignUpRequest request = SignUpRequest.builder()
+                .email("logout@gmail.com")
+                .password("Password123@")
+                .passwordConfirm("Password123@")
+                .name("강두기")
+                .phoneNumber("010-1234-1234")
+                .build();
+
+        userService.signUp(request);
+        loginResponse = userService.login(new LoginRequest(request.getEmail(), request.getPassword()));
+    }
+
+    @Test
+    @DisplayName("로그아웃한 Access Token으로 요청 시 401")
+    void logout_ThenRequestWithSameToken_Unauthorized() throws Exception {
+        // given
+        mockMvc.perform(get("/api/todos")
+                        .header("Authorization", "Bearer " + loginResponse.getAccessToken()))
+                .andExpect(status().isOk());
+
+        // when
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + loginResponse.getAccessToken()))
+                .andExpect(status().isNoContent());
+
+        // then
+        mockMvc.perform(get("/api/todos")
+                        .header("Authorization", "Bearer " + loginResponse.getAccessToken()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("토큰 없이 로그아웃 시도 - 401")
+    void logout_WithoutToken_Unauthorized() throws Exception {
+        mockMvc.perform(post("/api/auth/logout"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Refresh Token과 함께 로그아웃하면 재발급 불가")
+    void logout_WithRefreshToken_RevokesRefreshToken() throws Exception {
+        // given
+        String body = """
+                {
+                    "refreshToken": "%s"
+                }
+                """.formatted(loginResponse.getRefreshToken());
+
+        // when
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + loginResponse.getAccessToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isNoContent());
+
+        // then
+        assertThatThrownBy(() -> userService.refresh(new TokenRefreshRequest(loginResponse.getRefreshToken())))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+}
@@ -0,0 +1,74 @@
+package com.todoapp.auth.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.todoapp.business.service.UserService;
+import com.todoapp.dataaccess.entity.User;
+import com.todoapp.dataaccess.repository.UserRepository;
+import com.todoapp.pressentation.dto.request.LoginRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+/**
+ * 로그인 성공 시 예전 형식의 비밀번호 해시 재해싱
+ * 로그인은 트랜잭션 없이, 재해싱 저장은 별도 트랜잭션으로 처리되므로 테스트 데이터를 커밋해서 확인한다.
+ */
+@SpringBootTest
+class PasswordRehashIntegrationTest {
+
+    private static final String EMAIL = "rehash@gmail.com";
+    private static final String PASSWORD = "Password123@";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    @DisplayName("접두사 없이 저장된 예전 BCrypt 해시는 로그인 후 {bcrypt} 해시로 바뀐다")
+    void login_WithLegacyBcryptHash_Rehashes() {
+        // given
+        saveUser(new BCryptPasswordEncoder(4).encode(PASSWORD));
+
+        // when
+        userService.login(new LoginRequest(EMAIL, PASSWORD));
+
+        // then
+        String stored = userRepository.findByEmail(EMAIL).orElseThrow().getPassword();
+        assertThat(stored).startsWith("{bcrypt}$2a$10$");
+        assertThat(userService.login(new LoginRequest(EMAIL, PASSWORD)).getEmail()).isEqualTo(EMAIL);
+    }
+
+    @Test
+    @DisplayName("다른 알고리즘(pbkdf2)으로 저장된 해시는 로그인 후 {bcrypt} 해시로 바뀐다")
+    void login_WithPbkdf2Hash_Rehashes() {
+        // given
+        saveUser("{pbkdf2}" + Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8().encode(PASSWORD));
+
+        // when
+        userService.login(new LoginRequest(EMAIL, PASSWORD));
+
+        // then
+        assertThat(userRepository.findByEmail(EMAIL).orElseThrow().getPassword()).startsWith("{bcrypt}");
+    }
+
+    private void saveUser(String passwordHash) {
+        userRepository.save(User.builder()
+                .email(EMAIL)
+                .password(passwordHash)
+                .name("강두기")
+                .phoneNumber("010-9203-5808")
+                .build());
+    }
+}
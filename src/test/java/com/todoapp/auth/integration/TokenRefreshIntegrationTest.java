@@ -0,0 +1,100 @@
+package com.todoapp.auth.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.todoapp.business.service.UserService;
+import com.todoapp.common.exception.InvalidTokenException;
+import com.todoapp.common.security.JwtTokenProvider;
+import com.todoapp.pressentation.dto.request.LoginRequest;
+import com.todoapp.pressentation.dto.request.SignUpRequest;
+import com.todoapp.pressentation.dto.request.TokenRefreshRequest;
+import com.todoapp.pressentation.dto.response.LoginResponse;
+import com.todoapp.pressentation.dto.response.TokenRefreshResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+public class TokenRefreshIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private LoginResponse loginResponse;
+
+    @BeforeEach
+    void setUp() {
+        SignUpRequest request = SignUpRequest.builder()
+                .email("refresh@gmail.com")
+                .password("Password123@")
+                .passwordConfirm("Password123@")
+                .name("강두기")
+                .phoneNumber("010-9203-5808")
+                .build();
+
+        userService.signUp(request);
+        loginResponse = userService.login(new LoginRequest("refresh@gmail.com", "Password123@"));
+    }
+
+    @Test
+    @DisplayName("Refresh Token으로 새 Access Token과 새 Refresh Token 발급")
+    void refresh_WithValidToken_IssuesNewTokens() {
+        // when
+        TokenRefreshResponse response = userService.refresh(
+                new TokenRefreshRequest(loginResponse.getRefreshToken()));
+
+        // then
+        assertThat(response.getRefreshToken()).isNotEqualTo(loginResponse.getRefreshToken());
+        assertThat(jwtTokenProvider.verifyAccessToken(response.getAccessToken())).isPresent();
+        assertThat(jwtTokenProvider.getEmailFromToken(response.getAccessToken()))
+                .isEqualTo("refresh@gmail.com");
+    }
+
+    @Test
+    @DisplayName("이미 사용된 Refresh Token 재사용 시 실패")
+    void refresh_WithReusedToken_Fail() {
+        // given
+        TokenRefreshRequest request = new TokenRefreshRequest(loginResponse.getRefreshToken());
+        userService.refresh(request);
+
+        // when & then
+        assertThatThrownBy(() -> userService.refresh(request))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("재사용이 감지되면 같은 family의 최신 Refresh Token도 폐기")
+    void refresh_AfterReuseDetected_RevokesFamily() {
+        // given
+        TokenRefreshRequest original = new TokenRefreshRequest(loginResponse.getRefreshToken());
+        TokenRefreshResponse rotated = userService.refresh(original);
+
+        // when - 탈취된 이전 토큰 재사용
+        assertThatThrownBy(() -> userService.refresh(original))
+                .isInstanceOf(InvalidTokenException.class);
+
+        // then - 정상 사용자가 가진 최신 토큰도 사용 불가
+        assertThatThrownBy(() -> userService.refresh(new TokenRefreshRequest(rotated.getRefreshToken())))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("Access Token으로 재발급 요청 시 실패")
+    void refresh_WithAccessToken_Fail() {
+        assertThatThrownBy(() -> userService.refresh(new TokenRefreshRequest(loginResponse.getAccessToken())))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("Refresh Token은 Access Token으로 인증할 수 없음")
+    void verifyAccessToken_WithRefreshToken_Empty() {
+        assertThat(jwtTokenProvider.verifyAccessToken(loginResponse.getRefreshToken())).isEmpty();
+    }
+}
@@ -40,7 +40,7 @@ class UserSignUpIntegrationTest {
         assertThat(savedUser.getEmail()).isEqualTo("test123@gmail.com");
 
         assertThat(savedUser.getPassword()).isNotEqualTo("Password123!");
-        assertThat(savedUser.getPassword()).startsWith("$2a$");
+        assertThat(savedUser.getPassword()).startsWith("{bcrypt}$2a$");
     }
 
     @Test
@@ -0,0 +1,69 @@
+package com.todoapp.auth.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.todoapp.common.security.BoundUserId;
+import com.todoapp.common.security.BoundUserIdProvider;
+import com.todoapp.common.security.BoundUserIdTaskDecorator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoundUserIdTest {
+
+    @Test
+    @DisplayName("범위 안에서만 userId가 묶이고, 범위를 벗어나면 이전 값으로 돌아간다")
+    void bind_NestedScopes_RestoresPrevious() {
+        // given
+        assertThat(BoundUserId.get()).isNull();
+
+        // when & then
+        try (BoundUserId.Scope outer = BoundUserId.bind(1L)) {
+            assertThat(BoundUserId.get()).isEqualTo(1L);
+            try (BoundUserId.Scope inner = BoundUserId.bind(2L)) {
+                assertThat(BoundUserId.get()).isEqualTo(2L);
+            }
+            assertThat(BoundUserId.get()).isEqualTo(1L);
+        }
+        assertThat(BoundUserId.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("TaskDecorator로 감싼 작업은 제출한 스레드의 userId를 보고, 끝나면 풀 스레드에 값이 남지 않는다")
+    void decorate_ChildTask_SeesSubmitterUserId() throws Exception {
+        // given
+        BoundUserIdTaskDecorator decorator = new BoundUserIdTaskDecorator();
+        BoundUserIdProvider provider = new BoundUserIdProvider();
+        AtomicReference<Long> seen = new AtomicReference<>();
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            // when
+            try (BoundUserId.Scope ignored = BoundUserId.bind(42L)) {
+                executor.submit(decorator.decorate(() -> seen.set(provider.getCurrentUserId()))).get();
+            }
+            Long leftover = CompletableFuture.supplyAsync(BoundUserId::get, executor).get();
+
+            // then
+            assertThat(seen.get()).isEqualTo(42L);
+            assertThat(leftover).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("가상 스레드 자식 작업에도 전달된다")
+    void wrap_VirtualThread_SeesUserId() throws Exception {
+        // given
+        AtomicReference<Long> seen = new AtomicReference<>();
+
+        // when
+        try (BoundUserId.Scope ignored = BoundUserId.bind(7L)) {
+            Thread.ofVirtual().start(BoundUserId.wrap(() -> seen.set(BoundUserId.get()))).join();
+        }
+
+        // then
+        assertThat(seen.get()).isEqualTo(7L);
+    }
+}
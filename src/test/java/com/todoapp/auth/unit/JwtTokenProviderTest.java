@@ -2,10 +2,15 @@ package com.todoapp.auth.unit;
 
 import static org.assertj.core.api.Assertions.*;
 
+import com.todoapp.common.security.AuthenticatedUser;
 import com.todoapp.common.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 class JwtTokenProviderTest {
 
@@ -125,4 +130,76 @@ class JwtTokenProviderTest {
 
         assertThat(accessTokenA).isNotEqualTo(accessTokenB);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("유효한 토큰을 검증하면 Claims를 반환한다")
+    void verifyToken_ReturnsClaims() {
+        // given
+        String email = "test123@gmail.net";
+        String token = jwtTokenProvider.generateAccessToken(email);
+
+        // when
+        Optional<Claims> claims = jwtTokenProvider.verifyToken(token);
+
+        // then
+        assertThat(claims).isPresent();
+        assertThat(claims.get().getSubject()).isEqualTo(email);
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 다시 검증하면 캐시된 Claims를 재사용한다")
+    void verifyToken_SameToken_ReusesCachedClaims() {
+        // given
+        String token = jwtTokenProvider.generateAccessToken("test123@gmail.net");
+
+        // when
+        Claims first = jwtTokenProvider.verifyToken(token).orElseThrow();
+        Claims second = jwtTokenProvider.verifyToken(token).orElseThrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 검증에 실패한다")
+    void verifyToken_SignedWithOtherKey_ReturnsEmpty() {
+        // given
+        JwtTokenProvider otherProvider = new JwtTokenProvider(
+                "other-secret-key-that-is-at-least-256-bits-long-for-hs256-algorithm",
+                3600000L,
+                604800000L
+        );
+        String token = otherProvider.generateAccessToken("test123@gmail.net");
+
+        // when & then
+        assertThat(jwtTokenProvider.verifyToken(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("userId와 권한을 담은 Access Token에서 DB 조회 없이 Principal을 복원한다")
+    void getPrincipal_FromAccessTokenWithClaims() {
+        // given
+        String token = jwtTokenProvider.generateAccessToken(
+                "test123@gmail.net", 42L, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        Claims claims = jwtTokenProvider.verifyToken(token).orElseThrow();
+
+        // when
+        AuthenticatedUser principal = jwtTokenProvider.getPrincipal(claims).orElseThrow();
+
+        // then
+        assertThat(principal.userId()).isEqualTo(42L);
+        assertThat(principal.email()).isEqualTo("test123@gmail.net");
+        assertThat(principal.authorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("userId Claim이 없는 토큰은 Principal을 복원하지 않는다")
+    void getPrincipal_WithoutUserIdClaim_ReturnsEmpty() {
+        // given
+        String token = jwtTokenProvider.generateAccessToken("test123@gmail.net");
+        Claims claims = jwtTokenProvider.verifyToken(token).orElseThrow();
+
+        // when & then
+        assertThat(jwtTokenProvider.getPrincipal(claims)).isEmpty();
+    }
+}
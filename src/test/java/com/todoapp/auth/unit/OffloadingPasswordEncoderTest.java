@@ -0,0 +1,151 @@
+package com.todoapp.auth.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.todoapp.common.exception.PasswordHashingBusyException;
+import com.todoapp.common.security.OffloadingPasswordEncoder;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class OffloadingPasswordEncoderTest {
+
+    private OffloadingPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    @DisplayName("해싱 스레드 풀에서 BCrypt 인코딩과 검증을 수행한다")
+    void encodeAndMatches_DelegatesToBCrypt() {
+        // given
+        passwordEncoder = new OffloadingPasswordEncoder(
+                new BCryptPasswordEncoder(4), 2, 4, Duration.ofSeconds(5));
+
+        // when
+        String encoded = passwordEncoder.encode("Password123!");
+
+        // then
+        assertThat(encoded).startsWith("$2a$04$");
+        assertThat(passwordEncoder.matches("Password123!", encoded)).isTrue();
+        assertThat(passwordEncoder.matches("WrongPassword123!", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("cost가 설정보다 낮은 해시는 재해싱 대상이다")
+    void upgradeEncoding_LowerStrength_ReturnsTrue() {
+        // given
+        String oldHash = new BCryptPasswordEncoder(4).encode("Password123!");
+        passwordEncoder = new OffloadingPasswordEncoder(
+                new BCryptPasswordEncoder(5), 1, 1, Duration.ofSeconds(5));
+
+        // when & then
+        assertThat(passwordEncoder.upgradeEncoding(oldHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 기다리지 않고 바로 거절한다")
+    void encode_WhenPoolSaturated_RejectsImmediately() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        passwordEncoder = new OffloadingPasswordEncoder(
+                new BlockingPasswordEncoder(release), 1, 1, Duration.ofSeconds(5));
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("a"));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("b"));
+        while (passwordEncoder.queueSize() < 1) {
+            Thread.sleep(10);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> passwordEncoder.encode("c"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+
+        release.countDown();
+        assertThat(running.join()).isEqualTo("a");
+        assertThat(queued.join()).isEqualTo("b");
+    }
+
+    @Test
+    @DisplayName("admissionWait를 주면 스레드와 대기열이 모두 차도 거절하지 않고 자리가 날 때까지 기다린다")
+    void encode_WhenPoolSaturatedWithAdmissionWait_WaitsForSlot() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        passwordEncoder = new OffloadingPasswordEncoder(
+                new BlockingPasswordEncoder(release), 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(5));
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("a"));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("b"));
+        while (passwordEncoder.queueSize() < 1) {
+            Thread.sleep(10);
+        }
+
+        // when
+        CompletableFuture<String> waiting = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("c"));
+        Thread.sleep(100);
+
+        // then (자리가 없는 동안은 대기열에 들어가지 않고 기다린다)
+        assertThat(waiting).isNotDone();
+        assertThat(passwordEncoder.queueSize()).isEqualTo(1);
+        release.countDown();
+        assertThat(running.join()).isEqualTo("a");
+        assertThat(queued.join()).isEqualTo("b");
+        assertThat(waiting.join()).isEqualTo("c");
+    }
+
+    @Test
+    @DisplayName("시간 초과된 대기 작업은 대기열에서 빠져서 자리를 돌려준다")
+    void encode_WhenTimedOutInQueue_FreesQueueSlot() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        passwordEncoder = new OffloadingPasswordEncoder(
+                new BlockingPasswordEncoder(started, release), 1, 1, Duration.ofMillis(200));
+
+        CompletableFuture.runAsync(() -> passwordEncoder.encode("a"));
+        started.await();
+
+        // when (실행 중인 작업 뒤에서 기다리다 시간 초과)
+        assertThatThrownBy(() -> passwordEncoder.encode("b"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+
+        // then
+        assertThat(passwordEncoder.queueSize()).isZero();
+        CompletableFuture<String> next = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("c"));
+        while (passwordEncoder.queueSize() < 1) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+        assertThat(next.join()).isEqualTo("c");
+    }
+
+    private record BlockingPasswordEncoder(CountDownLatch started, CountDownLatch release) implements PasswordEncoder {
+
+        private BlockingPasswordEncoder(CountDownLatch release) {
+            this(new CountDownLatch(1), release);
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.todoapp.auth.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.todoapp.common.security.RateLimiter;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+    @Test
+    @DisplayName("버킷 크기만큼은 허용하고 그 다음 요청은 대기 시간과 함께 거절한다")
+    void tryAcquire_OverCapacity_ReturnsWaitTime() {
+        // given
+        RateLimiter rateLimiter = new RateLimiter(5, Duration.ofMinutes(1), 100);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire("ip:127.0.0.1")).isZero();
+        }
+        long waitNanos = rateLimiter.tryAcquire("ip:127.0.0.1");
+
+        // then (1분에 5개 → 약 12초마다 1개 충전)
+        assertThat(waitNanos).isPositive();
+        assertThat(waitNanos).isLessThanOrEqualTo(Duration.ofSeconds(12).toNanos());
+    }
+
+    @Test
+    @DisplayName("키마다 버킷이 따로 관리된다")
+    void tryAcquire_DifferentKeys_AreIndependent() {
+        // given
+        RateLimiter rateLimiter = new RateLimiter(1, Duration.ofMinutes(1), 100);
+
+        // when
+        long first = rateLimiter.tryAcquire("email:a@gmail.com");
+        long second = rateLimiter.tryAcquire("email:b@gmail.com");
+        long again = rateLimiter.tryAcquire("email:a@gmail.com");
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(again).isPositive();
+    }
+
+    @Test
+    @DisplayName("충전 시간이 지나면 다시 허용한다")
+    void tryAcquire_AfterRefill_Allows() throws InterruptedException {
+        // given
+        RateLimiter rateLimiter = new RateLimiter(1, Duration.ofMillis(50), 100);
+        rateLimiter.tryAcquire("ip:127.0.0.1");
+
+        // when
+        Thread.sleep(60);
+
+        // then
+        assertThat(rateLimiter.tryAcquire("ip:127.0.0.1")).isZero();
+    }
+
+    @Test
+    @DisplayName("추적 중인 키가 가득 차도 새 키는 공용 버킷으로 제한된다")
+    void tryAcquire_WhenKeyTableFull_NewKeysStillLimited() {
+        // given (제한에 걸린 키로 표를 채움)
+        RateLimiter rateLimiter = new RateLimiter(1, Duration.ofMinutes(1), 2);
+        rateLimiter.tryAcquire("email:a@gmail.com");
+        rateLimiter.tryAcquire("email:b@gmail.com");
+
+        // when
+        long first = rateLimiter.tryAcquire("email:c@gmail.com");
+        long again = rateLimiter.tryAcquire("email:c@gmail.com");
+        long other = rateLimiter.tryAcquire("email:d@gmail.com");
+
+        // then
+        assertThat(first).isZero();
+        assertThat(again).isPositive();
+        assertThat(other).isPositive();
+    }
+
+    @Test
+    @DisplayName("표가 가득 찬 뒤 새 키가 몰려도 표 전체 정리는 간격마다 한 번만 한다")
+    void tryAcquire_WhenKeyTableFull_SweepsAreThrottled() {
+        // given (제한에 걸린 키로 표를 채움)
+        int maxKeys = 10_000;
+        RateLimiter rateLimiter = new RateLimiter(1, Duration.ofMinutes(1), maxKeys);
+        for (int i = 0; i < maxKeys; i++) {
+            rateLimiter.tryAcquire("email:user" + i + "@gmail.com");
+        }
+        long start = System.nanoTime();
+
+        // when (키를 바꿔 가며 보내는 요청)
+        for (int i = 0; i < 50_000; i++) {
+            rateLimiter.tryAcquire("email:spray" + i + "@gmail.com");
+        }
+
+        // then (정리는 최소 1초 간격 - 요청 수가 아니라 걸린 시간에 비례)
+        long elapsedSeconds = Duration.ofNanos(System.nanoTime() - start).toSeconds();
+        assertThat(rateLimiter.sweepCount()).isLessThanOrEqualTo(1 + elapsedSeconds);
+    }
+}
@@ -0,0 +1,72 @@
+package com.todoapp.common.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.todoapp.common.cache.BoundedCache;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoundedCacheTest {
+
+    @Test
+    @DisplayName("저장한 값을 조회하면 hit, 없는 값을 조회하면 miss로 집계된다")
+    void get_CountsHitsAndMisses() {
+        // given
+        BoundedCache<String, String> cache = new BoundedCache<>(100, Duration.ofMinutes(5));
+        cache.put("test123@gmail.com", "강두기");
+
+        // when
+        String hit = cache.get("test123@gmail.com");
+        String miss = cache.get("unknown@gmail.com");
+
+        // then
+        assertThat(hit).isEqualTo("강두기");
+        assertThat(miss).isNull();
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 값은 조회되지 않고 eviction으로 집계된다")
+    void get_ExpiredEntry_IsEvicted() {
+        // given
+        BoundedCache<String, String> cache = new BoundedCache<>(100, Duration.ZERO);
+        cache.put("test123@gmail.com", "강두기");
+
+        // when & then
+        assertThat(cache.get("test123@gmail.com")).isNull();
+        assertThat(cache.evictionCount()).isEqualTo(1);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 오래된 항목이 제거되어 크기가 제한된다")
+    void put_OverCapacity_EvictsEntries() {
+        // given
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(32, Duration.ofMinutes(5));
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i);
+        }
+
+        // then
+        assertThat(cache.size()).isLessThanOrEqualTo(32);
+        assertThat(cache.evictionCount()).isEqualTo(1000 - cache.size());
+    }
+
+    @Test
+    @DisplayName("무효화한 키는 더 이상 조회되지 않는다")
+    void invalidate_RemovesEntry() {
+        // given
+        BoundedCache<String, String> cache = new BoundedCache<>(100, Duration.ofMinutes(5));
+        cache.put("test123@gmail.com", "강두기");
+
+        // when
+        cache.invalidate("test123@gmail.com");
+
+        // then
+        assertThat(cache.get("test123@gmail.com")).isNull();
+    }
+}
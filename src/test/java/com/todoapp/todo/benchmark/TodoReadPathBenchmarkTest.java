@@ -0,0 +1,130 @@
+package com.todoapp.todo.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.todoapp.dataaccess.entity.Todo;
+import com.todoapp.dataaccess.entity.User;
+import com.todoapp.dataaccess.repository.TodoRepository;
+import com.todoapp.dataaccess.repository.UserRepository;
+import com.todoapp.pressentation.dto.response.TodoResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 엔티티 조회 vs Projection 조회 비교
+ * ./gradlew benchmark 로 실행 (일반 test 태스크에서는 제외됨)
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class TodoReadPathBenchmarkTest {
+
+    private static final int TODO_COUNT = 5_000;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURE_ITERATIONS = 50;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private TransactionTemplate readOnlyTx;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+
+        User user = userRepository.save(User.builder()
+                .email("benchmark@gmail.com")
+                .password("password")
+                .name("벤치마크")
+                .phoneNumber("010-0000-0000")
+                .build());
+        userId = user.getId();
+
+        List<Todo> todos = new ArrayList<>(TODO_COUNT);
+        for (int i = 0; i < TODO_COUNT; i++) {
+            todos.add(Todo.builder().title("Todo " + i).description("설명 " + i).user(user).build());
+        }
+        todoRepository.saveAll(todos);
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Projection 조회는 엔티티 조회보다 할당량이 적다")
+    void findAll_ProjectionVsEntity() {
+        Supplier<List<TodoResponse>> entityPath = () -> readOnlyTx.execute(status ->
+                entityManager.createQuery("select t from Todo t where t.user.id = :userId", Todo.class)
+                        .setParameter("userId", userId)
+                        .getResultStream()
+                        .map(TodoResponse::from)
+                        .toList());
+        Supplier<List<TodoResponse>> projectionPath = () -> readOnlyTx.execute(status ->
+                todoRepository.findAllViewsByUserId(userId).stream().map(TodoResponse::from).toList());
+
+        assertThat(entityPath.get()).hasSize(TODO_COUNT);
+        assertThat(projectionPath.get()).hasSize(TODO_COUNT);
+
+        Result entity = measure("entity", entityPath);
+        Result projection = measure("projection", projectionPath);
+
+        System.out.println(entity);
+        System.out.println(projection);
+        assertThat(projection.bytesPerCall()).isLessThan(entity.bytesPerCall());
+    }
+
+    private Result measure(String name, Supplier<List<TodoResponse>> path) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            path.get();
+        }
+
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            path.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new Result(name, elapsed / MEASURE_ITERATIONS, allocated / MEASURE_ITERATIONS);
+    }
+
+    private record Result(String name, long nanosPerCall, long bytesPerCall) {
+
+        @Override
+        public String toString() {
+            return "%-10s %8.2f ms/call %10d KB/call (%d todos)"
+                    .formatted(name, nanosPerCall / 1_000_000.0, bytesPerCall / 1024, TODO_COUNT);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.todoapp.todo.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.todoapp.dataaccess.projection.TodoView;
+import com.todoapp.implement.todo.TodoSearchIndex;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Todo 5만 개를 가진 사용자의 검색 지연 시간
+ * 단어 종류를 적게 두어 검색어마다 수만 건이 일치하는 나쁜 경우로 측정한다.
+ * ./gradlew benchmark 로 실행 (일반 test 태스크에서는 제외됨)
+ */
+@Tag("benchmark")
+class TodoSearchBenchmarkTest {
+
+    private static final int TODO_COUNT = 50_000;
+    private static final int WARMUP_ITERATIONS = 500;
+    private static final int MEASURE_ITERATIONS = 2_000;
+    private static final String[] WORDS = {
+            "스프링", "공부", "JPA", "운동", "장보기", "회의", "보고서", "작성",
+            "study", "review", "코드", "리뷰", "배포", "테스트", "영어", "독서"
+    };
+    private static final String[] QUERIES = {
+            "스프링", "공부 study", "보고서 작성", "리뷰", "jpa", "테스트 배포 코드", "독서"
+    };
+
+    @Test
+    @DisplayName("Todo 5만 개에서 검색 p99 10ms 미만")
+    void search_50kTodos_P99Under10ms() {
+        TodoSearchIndex index = new TodoSearchIndex(10, Duration.ofMinutes(5), DataSize.ofMegabytes(256));
+        List<TodoView> todos = generateTodos();
+
+        long buildStart = System.nanoTime();
+        index.search(1L, QUERIES[0], 0, 20, () -> todos, ids -> List.of());
+        long buildNanos = System.nanoTime() - buildStart;
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            index.search(1L, QUERIES[i % QUERIES.length], 0, 20, () -> todos, ids -> List.of());
+        }
+
+        long[] latencies = new long[MEASURE_ITERATIONS];
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            index.search(1L, QUERIES[i % QUERIES.length], 0, 20, () -> todos, ids -> List.of());
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+
+        double p50 = latencies[MEASURE_ITERATIONS / 2] / 1_000_000.0;
+        double p99 = latencies[MEASURE_ITERATIONS * 99 / 100] / 1_000_000.0;
+        System.out.printf("build %.1f ms, search p50 %.2f ms, p99 %.2f ms (%d todos, index ~%d MB)%n",
+                buildNanos / 1_000_000.0, p50, p99, TODO_COUNT, index.usedBytes() / (1024 * 1024));
+
+        assertThat(p99).isLessThan(10.0);
+    }
+
+    private static List<TodoView> generateTodos() {
+        Random random = new Random(42);
+        List<TodoView> todos = new ArrayList<>(TODO_COUNT);
+        for (long id = 1; id <= TODO_COUNT; id++) {
+            todos.add(new TodoView(id, words(random, 3), words(random, 10), false,
+                    Instant.now(), Instant.now(), 0L));
+        }
+        return todos;
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return text.toString();
+    }
+}
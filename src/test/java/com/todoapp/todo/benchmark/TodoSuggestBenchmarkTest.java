@@ -0,0 +1,97 @@
+package com.todoapp.todo.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.todoapp.dataaccess.projection.TodoView;
+import com.todoapp.implement.todo.TodoChangedEvent;
+import com.todoapp.implement.todo.TodoChangedEvent.Type;
+import com.todoapp.implement.todo.TodoTitleSuggester;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Todo 5만 개를 가진 사용자가 Todo 하나를 수정한 직후의 자동완성 지연 시간
+ * 수정 후 첫 조회는 바뀐 Todo를 스냅샷에 반영하는 비용까지 포함한다.
+ * ./gradlew benchmark 로 실행 (일반 test 태스크에서는 제외됨)
+ */
+@Tag("benchmark")
+class TodoSuggestBenchmarkTest {
+
+    private static final int TODO_COUNT = 50_000;
+    private static final int WARMUP_ITERATIONS = 500;
+    private static final int MEASURE_ITERATIONS = 2_000;
+    private static final String[] WORDS = {
+            "스프링", "공부", "JPA", "운동", "장보기", "회의", "보고서", "작성",
+            "study", "review", "코드", "리뷰", "배포", "테스트", "영어", "독서"
+    };
+
+    @Test
+    @DisplayName("Todo 5만 개에서 수정 직후 자동완성 p99 10ms 미만")
+    void suggest_AfterWrite_50kTodos_P99Under10ms() {
+        TodoTitleSuggester suggester = new TodoTitleSuggester(DataSize.ofMegabytes(64), 10_000);
+        Random random = new Random(42);
+        List<TodoView> todos = generateTodos(random);
+
+        long buildStart = System.nanoTime();
+        suggester.suggest(1L, "스", 10, () -> todos, ids -> List.of());
+        long buildNanos = System.nanoTime() - buildStart;
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            writeThenSuggest(suggester, random, todos);
+        }
+
+        long[] latencies = new long[MEASURE_ITERATIONS];
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            latencies[i] = writeThenSuggest(suggester, random, todos);
+        }
+        Arrays.sort(latencies);
+
+        double p50 = latencies[MEASURE_ITERATIONS / 2] / 1_000_000.0;
+        double p99 = latencies[MEASURE_ITERATIONS * 99 / 100] / 1_000_000.0;
+        System.out.printf("build %.1f ms, suggest after write p50 %.2f ms, p99 %.2f ms (%d todos)%n",
+                buildNanos / 1_000_000.0, p50, p99, TODO_COUNT);
+
+        assertThat(p99).isLessThan(10.0);
+    }
+
+    /**
+     * 임의의 Todo 하나의 제목을 바꾸고, 커밋 이벤트 후 첫 자동완성 조회 시간을 잰다.
+     */
+    private static long writeThenSuggest(TodoTitleSuggester suggester, Random random, List<TodoView> todos) {
+        long id = 1 + random.nextInt(TODO_COUNT);
+        TodoView updated = todo(id, random);
+        suggester.onTodoChanged(new TodoChangedEvent(1L, Type.UPDATED, List.of(id)));
+
+        long start = System.nanoTime();
+        suggester.suggest(1L, "스", 10, () -> todos, ids -> List.of(updated));
+        return System.nanoTime() - start;
+    }
+
+    private static List<TodoView> generateTodos(Random random) {
+        List<TodoView> todos = new ArrayList<>(TODO_COUNT);
+        for (long id = 1; id <= TODO_COUNT; id++) {
+            todos.add(todo(id, random));
+        }
+        return todos;
+    }
+
+    private static TodoView todo(long id, Random random) {
+        Instant now = Instant.now();
+        return new TodoView(id, words(random, 3) + id, null, false, now, now, 0L);
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,283 @@
+package com.todoapp.todo.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.todoapp.Application;
+import com.todoapp.business.service.UserService;
+import com.todoapp.pressentation.dto.request.LoginRequest;
+import com.todoapp.pressentation.dto.request.SignUpRequest;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드 요청 처리 비교 (처리량, p99 지연)
+ * ./gradlew benchmark 로 실행 (일반 test 태스크에서는 제외됨)
+ *
+ * 모드마다 같은 설정으로 서버를 새로 띄우고(H2도 새로), 동시 클라이언트 수를 바꿔 가며 같은 부하를 준다.
+ * 클라이언트 하나는 가상 스레드 하나로, 응답을 받으면 바로 다음 요청을 보낸다.
+ * 요청은 JDBC를 거치는 목록/통계 조회이며, 목록 캐시와 조회 합치기는 꺼서 매 요청이 DB까지 간다.
+ * 일부는 로그인 요청으로 섞어서 BCrypt 해싱 풀과 대기열(OffloadingPasswordEncoder)이 어떻게 버티는지 함께 본다.
+ * (로그인 지연과 해싱 대기열이 가득 차서 거절된 503 수는 따로 센다)
+ *
+ * 설정 (시스템 프로퍼티)
+ * - benchmark.clients : 동시 클라이언트 수 목록 (기본 1000,5000,10000)
+ * - benchmark.warmup-seconds / benchmark.measure-seconds : 단계별 워밍업/측정 시간 (기본 5 / 15)
+ * - benchmark.login-percent : 요청 중 로그인 비율 % (기본 5, 나머지는 목록 90% / 통계 10%)
+ *
+ * 클라이언트와 서버가 같은 JVM에서 CPU를 나눠 쓰므로 절대값보다 두 모드의 차이를 본다.
+ * 10000 클라이언트는 소켓 수만큼 파일 디스크립터가 필요하다. (ulimit -n)
+ */
+@Tag("benchmark")
+class VirtualThreadBenchmarkTest {
+
+    private static final int USERS = 50;
+    private static final int TODOS_PER_USER = 20;
+    private static final String PASSWORD = "Password123!";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final int[] clientCounts = Arrays.stream(System.getProperty("benchmark.clients", "1000,5000,10000")
+                    .split(","))
+            .mapToInt(value -> Integer.parseInt(value.trim()))
+            .toArray();
+    private final Duration warmup = Duration.ofSeconds(Long.getLong("benchmark.warmup-seconds", 5));
+    private final Duration measure = Duration.ofSeconds(Long.getLong("benchmark.measure-seconds", 15));
+    private final int loginPercent = Integer.getInteger("benchmark.login-percent", 5);
+
+    @Test
+    @DisplayName("동시 클라이언트 수별 처리량과 p99 지연 - 플랫폼 스레드 vs 가상 스레드")
+    void platformVsVirtualThreads() throws Exception {
+        List<Result> results = new ArrayList<>();
+        for (boolean virtual : new boolean[]{false, true}) {
+            String mode = virtual ? "virtual" : "platform";
+            try (ConfigurableApplicationContext app = start(mode, virtual);
+                    HttpClient http = HttpClient.newBuilder()
+                            .executor(Executors.newVirtualThreadPerTaskExecutor())
+                            .connectTimeout(REQUEST_TIMEOUT)
+                            .build()) {
+                Target target = prepare(app, http);
+                for (int clients : clientCounts) {
+                    drive(http, target, clients, warmup);
+                    results.add(toResult(mode, clients, drive(http, target, clients, measure)));
+                }
+            }
+        }
+
+        System.out.println(
+                "mode      clients   requests   errors      req/s    p50 ms    p99 ms    logins   busy  login p99 ms");
+        results.forEach(System.out::println);
+        assertThat(results).allSatisfy(result -> assertThat(result.requests()).isPositive());
+    }
+
+    private ConfigurableApplicationContext start(String mode, boolean virtual) {
+        return new SpringApplicationBuilder(Application.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-" + mode,
+                        "spring.jpa.show-sql=false",
+                        "server.tomcat.max-connections=20000",
+                        "server.tomcat.accept-count=10000",
+                        "security.rate-limit.enabled=false",
+                        "todo.read-coalescing.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+    // 사용자별 토큰 발급과 Todo 준비
+    private Target prepare(ConfigurableApplicationContext app, HttpClient http) throws Exception {
+        String baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+        UserService userService = app.getBean(UserService.class);
+
+        List<String> emails = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            SignUpRequest signUp = SignUpRequest.builder()
+                    .email("bench" + i + "@gmail.com")
+                    .password(PASSWORD)
+                    .passwordConfirm(PASSWORD)
+                    .name("벤치마크")
+                    .phoneNumber("010-0000-0000")
+                    .build();
+            userService.signUp(signUp);
+            String token = userService.login(new LoginRequest(signUp.getEmail(), signUp.getPassword()))
+                    .getAccessToken();
+            emails.add(signUp.getEmail());
+            tokens.add(token);
+
+            StringBuilder items = new StringBuilder();
+            for (int j = 0; j < TODOS_PER_USER; j++) {
+                items.append(j == 0 ? "" : ",").append("{\"title\":\"할 일 ").append(j).append("\"}");
+            }
+            HttpResponse<String> response = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/todos/bulk"))
+                            .header("Authorization", "Bearer " + token)
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString("{\"items\":[" + items + "]}"))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode()).isEqualTo(201);
+        }
+        return new Target(baseUrl, emails, tokens);
+    }
+
+    /**
+     * clients개의 클라이언트가 duration 동안 요청을 반복 (로그인 login-percent%, 나머지는 목록 조회 90%, 통계 조회 10%)
+     */
+    private Run drive(HttpClient http, Target target, int clients, Duration duration) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        Samples[] reads = new Samples[clients];
+        Samples[] logins = new Samples[clients];
+        AtomicLong errors = new AtomicLong();
+        AtomicLong busy = new AtomicLong();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                int client = c;
+                executor.submit(() -> {
+                    String email = target.emails().get(client % target.emails().size());
+                    String token = target.tokens().get(client % target.tokens().size());
+                    Samples readSamples = new Samples();
+                    Samples loginSamples = new Samples();
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    long deadline = System.nanoTime() + duration.toNanos();
+                    while (System.nanoTime() < deadline) {
+                        boolean login = ThreadLocalRandom.current().nextInt(100) < loginPercent;
+                        HttpRequest request = login ? loginRequest(target, email) : readRequest(target, token);
+                        long begin = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 503) {
+                                busy.incrementAndGet();
+                                continue;
+                            }
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        (login ? loginSamples : readSamples).add(System.nanoTime() - begin);
+                    }
+                    reads[client] = readSamples;
+                    logins[client] = loginSamples;
+                });
+            }
+            start.countDown();
+        }
+        return new Run(reads, logins, errors.get(), busy.get(), duration);
+    }
+
+    private static HttpRequest readRequest(Target target, String token) {
+        String path = ThreadLocalRandom.current().nextInt(10) == 0 ? "/api/todos/stats" : "/api/todos";
+        return HttpRequest.newBuilder(URI.create(target.baseUrl() + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest loginRequest(Target target, String email) {
+        String body = "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}";
+        return HttpRequest.newBuilder(URI.create(target.baseUrl() + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .timeout(REQUEST_TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static Result toResult(String mode, int clients, Run run) {
+        long[] reads = merge(run.reads());
+        long[] logins = merge(run.logins());
+        long total = reads.length + logins.length;
+
+        double throughput = total / (run.duration().toMillis() / 1000.0);
+        return new Result(mode, clients, total, run.errors(), throughput,
+                percentile(reads, 0.50), percentile(reads, 0.99), logins.length, run.busy(), percentile(logins, 0.99));
+    }
+
+    private static long[] merge(Samples[] samples) {
+        int total = Arrays.stream(samples).filter(Objects::nonNull).mapToInt(Samples::count).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (Samples client : samples) {
+            if (client != null) {
+                System.arraycopy(client.values, 0, all, offset, client.count);
+                offset += client.count;
+            }
+        }
+        Arrays.sort(all);
+        return all;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    /**
+     * 클라이언트 하나의 응답 시간 (나노초)
+     */
+    private static final class Samples {
+
+        private long[] values = new long[1024];
+        private int count;
+
+        private void add(long nanos) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = nanos;
+        }
+
+        private int count() {
+            return count;
+        }
+    }
+
+    private record Target(String baseUrl, List<String> emails, List<String> tokens) {
+    }
+
+    private record Run(Samples[] reads, Samples[] logins, long errors, long busy, Duration duration) {
+    }
+
+    /**
+     * @param p50 조회 요청 p50
+     * @param p99 조회 요청 p99
+     * @param busy 해싱 대기열이 가득 차서 거절된(503) 로그인 수
+     */
+    private record Result(
+            String mode, int clients, long requests, long errors, double throughput, double p50, double p99,
+            long logins, long busy, double loginP99) {
+
+        @Override
+        public String toString() {
+            return "%-8s %8d %10d %8d %10.0f %9.2f %9.2f %9d %6d %13.2f"
+                    .formatted(mode, clients, requests, errors, throughput, p50, p99, logins, busy, loginP99);
+        }
+    }
+}
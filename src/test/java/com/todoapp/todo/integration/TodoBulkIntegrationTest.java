@@ -0,0 +1,137 @@
+package com.todoapp.todo.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.todoapp.business.service.TodoService;
+import com.todoapp.business.service.UserService;
+import com.todoapp.common.exception.BulkSizeExceededException;
+import com.todoapp.common.security.CustomUserDetailService;
+import com.todoapp.common.security.CustomUserDetails;
+import com.todoapp.dataaccess.repository.TodoRepository;
+import com.todoapp.pressentation.dto.request.SignUpRequest;
+import com.todoapp.pressentation.dto.request.TodoCreateRequest;
+import com.todoapp.pressentation.dto.response.TodoBulkItemResult;
+import com.todoapp.pressentation.dto.response.TodoBulkItemResult.Status;
+import com.todoapp.pressentation.dto.response.TodoBulkResponse;
+import com.todoapp.pressentation.dto.response.TodoResponse;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = "todo.bulk.max-size=3")
+@Transactional
+public class TodoBulkIntegrationTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CustomUserDetailService customUserDetailService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @BeforeEach
+    void setup() {
+        signUp("bulk@gmail.com");
+        signUp("other@gmail.com");
+        authenticateAs("bulk@gmail.com");
+    }
+
+    @Test
+    @DisplayName("일괄 생성 시 요청 순서대로 생성 결과 반환")
+    void createTodos_Success() {
+        // when
+        TodoBulkResponse response = todoService.createTodos(List.of(
+                new TodoCreateRequest("Todo 1", null),
+                new TodoCreateRequest("Todo 2", "설명")));
+
+        // then
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(TodoBulkItemResult::getStatus)
+                .containsExactly(Status.CREATED, Status.CREATED);
+        assertThat(todoService.findById(response.getResults().get(1).getId()).getTitle())
+                .isEqualTo("Todo 2");
+    }
+
+    @Test
+    @DisplayName("일괄 완료 시 다른 사용자의 Todo와 없는 id는 NOT_FOUND")
+    void completeTodos_WithForeignAndMissingIds_ReportsPerItem() {
+        // given
+        Long mine = todoService.createTodo(new TodoCreateRequest("내 Todo", null)).getId();
+        authenticateAs("other@gmail.com");
+        Long others = todoService.createTodo(new TodoCreateRequest("남의 Todo", null)).getId();
+        authenticateAs("bulk@gmail.com");
+
+        // when
+        TodoBulkResponse response = todoService.completeTodos(List.of(mine, others, 999_999L));
+
+        // then
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(TodoBulkItemResult::getStatus)
+                .containsExactly(Status.COMPLETED, Status.NOT_FOUND, Status.NOT_FOUND);
+        assertThat(todoService.findById(mine).isCompleted()).isTrue();
+        assertThat(todoRepository.findById(others).orElseThrow().isCompleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 시 본인 Todo만 삭제")
+    void deleteTodos_DeletesOnlyOwnedTodos() {
+        // given
+        Long first = todoService.createTodo(new TodoCreateRequest("Todo 1", null)).getId();
+        Long second = todoService.createTodo(new TodoCreateRequest("Todo 2", null)).getId();
+        Long kept = todoService.createTodo(new TodoCreateRequest("Todo 3", null)).getId();
+
+        // when
+        TodoBulkResponse response = todoService.deleteTodos(List.of(first, second, first));
+
+        // then - 중복 id는 한 번만 처리
+        assertThat(response.getResults()).extracting(TodoBulkItemResult::getId)
+                .containsExactly(first, second);
+        assertThat(todoService.findAll()).extracting(TodoResponse::getId).containsExactly(kept);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘는 일괄 요청은 BulkSizeExceededException 발생")
+    void createTodos_OverMaxSize_ThrowsException() {
+        List<TodoCreateRequest> requests = List.of(
+                new TodoCreateRequest("1", null),
+                new TodoCreateRequest("2", null),
+                new TodoCreateRequest("3", null),
+                new TodoCreateRequest("4", null));
+
+        assertThatThrownBy(() -> todoService.createTodos(requests))
+                .isInstanceOf(BulkSizeExceededException.class);
+    }
+
+    private void signUp(String email) {
+        userService.signUp(SignUpRequest.builder()
+                .email(email)
+                .password("Password123!")
+                .passwordConfirm("Password123!")
+                .name("강두기")
+                .phoneNumber("010-1234-1234")
+                .build());
+    }
+
+    private void authenticateAs(String email) {
+        CustomUserDetails userDetails =
+                (CustomUserDetails) customUserDetailService.loadUserByUsername(email);
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        userDetails, null, userDetails.getAuthorities());
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+}
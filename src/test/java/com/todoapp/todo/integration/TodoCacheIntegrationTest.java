@@ -0,0 +1,98 @@
+package com.todoapp.todo.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.todoapp.business.service.TodoService;
+import com.todoapp.business.service.UserService;
+import com.todoapp.common.security.CustomUserDetailService;
+import com.todoapp.common.security.CustomUserDetails;
+import com.todoapp.dataaccess.repository.TodoRepository;
+import com.todoapp.dataaccess.repository.UserRepository;
+import com.todoapp.pressentation.dto.request.SignUpRequest;
+import com.todoapp.pressentation.dto.request.TodoCreateRequest;
+import com.todoapp.pressentation.dto.response.TodoResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 캐시를 켠 상태에서 쓰기 후 조회가 최신 값을 반환하는지 확인
+ * 캐시는 커밋 이후에 채워지므로 테스트 트랜잭션 없이 실행하고 직접 정리한다.
+ */
+@SpringBootTest(properties = "todo.cache.enabled=true")
+public class TodoCacheIntegrationTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CustomUserDetailService customUserDetailService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setup() {
+        userService.signUp(SignUpRequest.builder()
+                .email("cache@gmail.com")
+                .password("Password123!")
+                .passwordConfirm("Password123!")
+                .name("강두기")
+                .phoneNumber("010-1234-1234")
+                .build());
+        authenticateAs("cache@gmail.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("캐시된 목록은 생성/완료/삭제 후 바로 갱신된다")
+    void findAll_AfterWrites_ReturnsFreshData() {
+        // given
+        TodoResponse first = todoService.createTodo(new TodoCreateRequest("Todo 1", null));
+        assertThat(todoService.findAll()).hasSize(1);
+
+        // when & then - 생성
+        TodoResponse second = todoService.createTodo(new TodoCreateRequest("Todo 2", null));
+        assertThat(todoService.findAll()).hasSize(2);
+
+        // when & then - 완료
+        todoService.completeTodo(first.getId(), null);
+        assertThat(todoService.findById(first.getId()).isCompleted()).isTrue();
+        assertThat(todoService.findAll())
+                .filteredOn(TodoResponse::isCompleted)
+                .extracting(TodoResponse::getId)
+                .containsExactly(first.getId());
+
+        // when & then - 삭제
+        todoService.deleteTodo(second.getId());
+        assertThat(todoService.findAll()).extracting(TodoResponse::getId).containsExactly(first.getId());
+    }
+
+    private void authenticateAs(String email) {
+        CustomUserDetails userDetails =
+                (CustomUserDetails) customUserDetailService.loadUserByUsername(email);
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        userDetails, null, userDetails.getAuthorities());
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+}
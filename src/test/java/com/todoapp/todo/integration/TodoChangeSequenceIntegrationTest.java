@@ -0,0 +1,117 @@
+package com.todoapp.todo.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.todoapp.business.service.TodoService;
+import com.todoapp.business.service.UserService;
+import com.todoapp.common.security.BoundUserId;
+import com.todoapp.dataaccess.entity.User;
+import com.todoapp.dataaccess.repository.UserRepository;
+import com.todoapp.implement.todo.TodoChangeSequencer;
+import com.todoapp.pressentation.dto.request.SignUpRequest;
+import com.todoapp.pressentation.dto.request.TodoCreateRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 사용자별 변경 순번 행 생성
+ * 동시에 커밋되는 쓰기를 확인해야 하므로 테스트 트랜잭션 없이 실행하고, 만든 데이터는 직접 지운다.
+ */
+@SpringBootTest
+class TodoChangeSequenceIntegrationTest {
+
+    private static final String EMAIL = "sequence@gmail.com";
+    private static final int WRITERS = 8;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoChangeSequencer todoChangeSequencer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByEmail(EMAIL).ifPresent(user -> {
+            for (String table : List.of("todo", "todo_tombstone", "todo_daily_completion", "todo_stats",
+                    "user_change_sequence")) {
+                jdbcTemplate.update("delete from " + table + " where user_id = ?", user.getId());
+            }
+            userRepository.delete(user);
+        });
+    }
+
+    @Test
+    @DisplayName("가입할 때 순번 0인 행을 만든다")
+    void signUp_CreatesSequenceRow() {
+        // when
+        User user = userService.signUp(SignUpRequest.builder()
+                .email(EMAIL)
+                .password("Password123!")
+                .passwordConfirm("Password123!")
+                .name("강두기")
+                .phoneNumber("010-1234-1234")
+                .build());
+
+        // then
+        Long lastSeq = jdbcTemplate.queryForObject(
+                "select last_seq from user_change_sequence where user_id = ?", Long.class, user.getId());
+        assertThat(lastSeq).isZero();
+    }
+
+    @Test
+    @DisplayName("순번 행이 없는 사용자의 첫 쓰기가 동시에 들어와도 모두 성공하고 순번이 겹치지 않는다")
+    void createTodo_ConcurrentFirstWrites_WithoutSequenceRow_AllSucceed() throws Exception {
+        // given - 순번 행이 생기기 전에 가입한 사용자
+        long userId = userRepository.save(User.builder()
+                .email(EMAIL)
+                .password("{noop}Password123!")
+                .name("강두기")
+                .phoneNumber("010-1234-1234")
+                .build()).getId();
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(WRITERS)) {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                String title = "할 일 " + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try (BoundUserId.Scope ignored = BoundUserId.bind(userId)) {
+                        todoService.createTodo(new TodoCreateRequest(title, null));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            // then
+            for (Future<?> result : results) {
+                assertThatCode(result::get).doesNotThrowAnyException();
+            }
+        }
+        assertThat(todoChangeSequencer.current(userId)).isEqualTo(WRITERS);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(distinct change_seq) from todo where user_id = ?", Long.class, userId))
+                .isEqualTo(WRITERS);
+    }
+}
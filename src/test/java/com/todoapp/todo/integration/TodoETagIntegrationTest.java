@@ -0,0 +1,162 @@
+package com.todoapp.todo.integration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.todoapp.business.service.UserService;
+import com.todoapp.dataaccess.repository.TodoRepository;
+import com.todoapp.dataaccess.repository.UserRepository;
+import com.todoapp.pressentation.dto.request.LoginRequest;
+import com.todoapp.pressentation.dto.request.SignUpRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * 목록 버전은 커밋 후에 올라가므로 테스트 트랜잭션 없이 실행하고 직접 정리한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class TodoETagIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        SignUpRequest request = SignUpRequest.builder()
+                .email("etag@gmail.com")
+                .password("Password123@")
+                .passwordConfirm("Password123@")
+                .name("강두기")
+                .phoneNumber("010-1234-1234")
+                .build();
+
+        userService.signUp(request);
+        accessToken = userService.login(new LoginRequest(request.getEmail(), request.getPassword()))
+                .getAccessToken();
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("목록이 바뀌지 않았으면 304, 바뀌면 새 ETag와 함께 200")
+    void findAll_WithIfNoneMatch_ReturnsNotModifiedUntilChanged() throws Exception {
+        // given
+        createTodo("첫 번째");
+        String eTag = mockMvc.perform(get("/api/todos")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then - 변경 없음
+        mockMvc.perform(get("/api/todos")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        // when & then - 변경 후
+        createTodo("두 번째");
+        String newETag = mockMvc.perform(get("/api/todos")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newETag).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("단건은 수정되지 않았으면 304, 완료 처리 후에는 200")
+    void findById_WithIfNoneMatch_ReturnsNotModifiedUntilChanged() throws Exception {
+        // given
+        long id = createTodo("단건");
+        String eTag = mockMvc.perform(get("/api/todos/" + id)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).doesNotStartWith("W/");
+
+        // when & then - 변경 없음
+        mockMvc.perform(get("/api/todos/" + id)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        // when & then - 완료 처리 후
+        mockMvc.perform(patch("/api/todos/" + id + "/complete")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/todos/" + id)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("단건 304 응답은 버전만 비교하고 본문은 읽지 않는다")
+    void findById_NotModified_DoesNotLoadBody() throws Exception {
+        // given
+        long id = createTodo("단건");
+        String eTag = mockMvc.perform(get("/api/todos/" + id)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        double loadsBefore = bodyLoads();
+
+        // when
+        mockMvc.perform(get("/api/todos/" + id)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        // then - 단건/목록 조회는 모두 TodoReadCoalescer를 거친다
+        assertThat(bodyLoads()).isEqualTo(loadsBefore);
+    }
+
+    private double bodyLoads() {
+        return meterRegistry.get("todo.read.coalescing").tag("result", "executed").functionCounter().count();
+    }
+
+    private long createTodo(String title) throws Exception {
+        String body = mockMvc.perform(post("/api/todos")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"%s\"}".formatted(title)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+}
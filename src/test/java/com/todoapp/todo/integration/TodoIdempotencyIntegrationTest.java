@@ -0,0 +1,111 @@
+package com.todoapp.todo.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.todoapp.business.service.UserService;
+import com.todoapp.dataaccess.repository.TodoRepository;
+import com.todoapp.pressentation.dto.request.LoginRequest;
+import com.todoapp.pressentation.dto.request.SignUpRequest;
+import com.todoapp.pressentation.dto.response.LoginResponse;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class TodoIdempotencyIntegrationTest {
+
+    private static final String REQUEST_BODY = """
+            {
+                "title": "스프링 공부",
+                "description": "재시도 테스트"
+            }
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        SignUpRequest request = SignUpRequest.builder()
+                .email("idempotency@gmail.com")
+                .password("Password123@")
+                .passwordConfirm("Password123@")
+                .name("강두기")
+                .phoneNumber("010-1234-1234")
+                .build();
+
+        userService.signUp(request);
+
+        LoginResponse response = userService.login(new LoginRequest(request.getEmail(), request.getPassword()));
+        this.accessToken = response.getAccessToken();
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 다시 생성하면 Todo를 새로 만들지 않고 첫 응답을 돌려준다")
+    void createTodo_SameKey_ReplaysFirstResponse() throws Exception {
+        // given
+        String first = mockMvc.perform(post("/api/todos")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header("Idempotency-Key", "retry-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(REQUEST_BODY))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // when & then
+        String second = mockMvc.perform(post("/api/todos")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header("Idempotency-Key", "retry-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(REQUEST_BODY))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(todoRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 본문에 쓰면 409")
+    void createTodo_SameKeyDifferentBody_Conflict() throws Exception {
+        mockMvc.perform(post("/api/todos")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header("Idempotency-Key", "retry-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(REQUEST_BODY))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/todos")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header("Idempotency-Key", "retry-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "title": "다른 제목" }
+                                """))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("E008"));
+    }
+}
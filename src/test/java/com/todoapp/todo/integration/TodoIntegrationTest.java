@@ -3,15 +3,22 @@ package com.todoapp.todo.integration;
 import static org.assertj.core.api.Assertions.*;
 
 import com.todoapp.business.service.UserService;
+import com.todoapp.common.exception.InvalidCursorException;
 import com.todoapp.common.exception.TodoAccessDeniedException;
+import com.todoapp.common.exception.TodoVersionConflictException;
 import com.todoapp.common.security.CustomUserDetailService;
 import com.todoapp.common.security.CustomUserDetails;
 import com.todoapp.dataaccess.entity.Todo;
 import com.todoapp.pressentation.dto.request.SignUpRequest;
 import com.todoapp.pressentation.dto.request.TodoCreateRequest;
+import com.todoapp.pressentation.dto.request.UpdateTodoRequest;
+import com.todoapp.pressentation.dto.response.CursorPageResponse;
 import com.todoapp.pressentation.dto.response.TodoResponse;
 import com.todoapp.dataaccess.repository.TodoRepository;
 import com.todoapp.business.service.TodoService;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -149,6 +156,43 @@ public class TodoIntegrationTest {
         assertThat(todos).isEmpty();
     }
 
+    @Test
+    @DisplayName("커서 페이지네이션으로 전체 Todo를 최신순으로 한 번씩 조회")
+    void findPage_WalksAllTodosNewestFirst() {
+        // given
+        for (int i = 1; i <= 5; i++) {
+            todoService.createTodo(new TodoCreateRequest("Todo " + i, null));
+        }
+
+        // when
+        List<String> titles = new ArrayList<>();
+        String cursor = null;
+        CursorPageResponse<TodoResponse> page;
+        do {
+            page = todoService.findPage(cursor, 2);
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(2);
+            page.getItems().forEach(todo -> titles.add(todo.getTitle()));
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+
+        // then
+        assertThat(titles).containsExactly("Todo 5", "Todo 4", "Todo 3", "Todo 2", "Todo 1");
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 페이지 조회 시 InvalidCursorException 발생")
+    void findPage_WithInvalidCursor_ThrowsException() {
+        assertThatThrownBy(() -> todoService.findPage("not-a-cursor", 10))
+                .isInstanceOf(InvalidCursorException.class);
+
+        // 시각 계산이 넘치는 값
+        String overflow = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((Long.MAX_VALUE + ":" + Long.MAX_VALUE + ":1").getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> todoService.findPage(overflow, 10))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
     @Test
     @DisplayName("Todo 완료 처리 성공")
     void createTodo_Success() {
@@ -157,7 +201,7 @@ public class TodoIntegrationTest {
         assertThat(createTodo.isCompleted()).isFalse();
 
         // when
-        todoService.completeTodo(createTodo.getId());
+        todoService.completeTodo(createTodo.getId(), null);
 
         // then
         TodoResponse savedTodo = todoService.findById(createTodo.getId());
@@ -173,10 +217,61 @@ public class TodoIntegrationTest {
     void createTodo_WithNonExistingId_ThrowsException() {
         final Long nonExistingId = 999L;
 
-        assertThatThrownBy(() -> todoService.completeTodo(nonExistingId))
+        assertThatThrownBy(() -> todoService.completeTodo(nonExistingId, null))
                 .isInstanceOf(TodoAccessDeniedException.class);
     }
 
+    @Test
+    @DisplayName("Todo 제목만 수정하면 설명은 유지")
+    void updateTodo_TitleOnly_KeepsDescription() {
+        // given
+        TodoResponse createTodo = todoService.createTodo(new TodoCreateRequest("수정 전", "설명"));
+
+        // when
+        TodoResponse updated = todoService.updateTodo(createTodo.getId(), new UpdateTodoRequest("수정 후", null), null);
+
+        // then
+        assertThat(updated.getTitle()).isEqualTo("수정 후");
+        assertThat(updated.getDescription()).isEqualTo("설명");
+        assertThat(todoRepository.findById(createTodo.getId()).orElseThrow().getTitle()).isEqualTo("수정 후");
+    }
+
+    @Test
+    @DisplayName("존재하지 않은 Todo 수정 시 TodoAccessDeniedException 발생")
+    void updateTodo_WithNonExistingId_ThrowsException() {
+        assertThatThrownBy(() -> todoService.updateTodo(999_999L, new UpdateTodoRequest("제목", null), null))
+                .isInstanceOf(TodoAccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("알고 있는 버전이 현재 버전과 같으면 수정되고 버전이 올라간다")
+    void updateTodo_WithCurrentVersion_IncrementsVersion() {
+        // given
+        TodoResponse createTodo = todoService.createTodo(new TodoCreateRequest("수정 전", null));
+
+        // when
+        TodoResponse updated = todoService.updateTodo(
+                createTodo.getId(), new UpdateTodoRequest("수정 후", null), List.of(createTodo.getVersion()));
+
+        // then
+        assertThat(updated.getVersion()).isEqualTo(createTodo.getVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("다른 곳에서 먼저 수정된 Todo를 이전 버전으로 수정하면 TodoVersionConflictException 발생")
+    void updateTodo_WithStaleVersion_ThrowsConflict() {
+        // given
+        TodoResponse createTodo = todoService.createTodo(new TodoCreateRequest("원본", null));
+        Long staleVersion = createTodo.getVersion();
+        todoService.completeTodo(createTodo.getId(), List.of(staleVersion));
+
+        // when & then
+        assertThatThrownBy(() -> todoService.updateTodo(
+                createTodo.getId(), new UpdateTodoRequest("덮어쓰기", null), List.of(staleVersion)))
+                .isInstanceOf(TodoVersionConflictException.class);
+        assertThat(todoService.findById(createTodo.getId()).getTitle()).isEqualTo("원본");
+    }
+
     @Test
     @DisplayName("Todo 삭제 성공")
     void deleteTodo_Success() {
@@ -200,7 +295,7 @@ public class TodoIntegrationTest {
         assertThat(dbTodo.getTitle()).isEqualTo(createTodo.getTitle());
 
         // 완료 처리 & 검증
-        todoService.completeTodo(createTodo.getId());
+        todoService.completeTodo(createTodo.getId(), null);
         TodoResponse response = todoService.findById(createTodo.getId());
         assertThat(response.isCompleted()).isTrue();
 
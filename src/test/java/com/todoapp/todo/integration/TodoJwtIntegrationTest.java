@@ -1,7 +1,9 @@
 package com.todoapp.todo.integration;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -9,6 +11,7 @@ import com.todoapp.business.service.UserService;
 import com.todoapp.pressentation.dto.request.LoginRequest;
 import com.todoapp.pressentation.dto.request.SignUpRequest;
 import com.todoapp.pressentation.dto.response.LoginResponse;
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -141,4 +144,90 @@ public class TodoJwtIntegrationTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    @DisplayName("유효한 JWT로 Todo NDJSON 내보내기 성공")
+    void exportTodos_WithValidJWT_StreamsNdjson() throws Exception {
+        // given
+        for (String title : new String[]{"첫 번째", "두 번째"}) {
+            mockMvc.perform(post("/api/todos")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"title\": \"%s\"}".formatted(title)));
+        }
+
+        // when
+        String body = mockMvc.perform(get("/api/todos/export")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        // then - 한 줄에 Todo 하나, 최신순
+        String[] lines = body.strip().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("title").asString()).isEqualTo("두 번째");
+        assertThat(objectMapper.readTree(lines[1]).get("title").asString()).isEqualTo("첫 번째");
+    }
+
+    @Test
+    @DisplayName("오래된 If-Match로 Todo 수정 시 - 412")
+    void updateTodo_WithStaleIfMatch_PreconditionFailed() throws Exception {
+        // given
+        String created = mockMvc.perform(post("/api/todos")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"원본\"}"))
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(created).get("id").asLong();
+
+        String eTag = mockMvc.perform(patch("/api/todos/" + id)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header("If-Match", "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"첫 번째 기기\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(1))
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(eTag).isEqualTo("\"1\"");
+
+        // when & then - 다른 기기가 이전 버전으로 수정
+        mockMvc.perform(patch("/api/todos/" + id)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header("If-Match", "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"두 번째 기기\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.code").value("T002"));
+    }
+
+    @Test
+    @DisplayName("If-Match는 강한 비교 - 약한 ETag는 버전이 같아도 412, 여러 값 중 하나가 맞으면 수정")
+    void updateTodo_IfMatchStrongComparisonAndList() throws Exception {
+        // given
+        String created = mockMvc.perform(post("/api/todos")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"원본\"}"))
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(created).get("id").asLong();
+
+        // when & then - 약한 ETag
+        mockMvc.perform(patch("/api/todos/" + id)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header("If-Match", "W/\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"약한 비교\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        // when & then - 목록 중 현재 버전(0)이 있음
+        mockMvc.perform(patch("/api/todos/" + id)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header("If-Match", "\"3\", \"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"목록\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(1));
+    }
 }
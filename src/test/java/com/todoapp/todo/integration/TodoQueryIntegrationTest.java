@@ -0,0 +1,221 @@
+package com.todoapp.todo.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.todoapp.business.service.TodoService;
+import com.todoapp.business.service.UserService;
+import com.todoapp.common.security.CustomUserDetailService;
+import com.todoapp.common.security.CustomUserDetails;
+import com.todoapp.dataaccess.repository.TodoFilter;
+import com.todoapp.dataaccess.repository.TodoRepository;
+import com.todoapp.dataaccess.repository.TodoSort;
+import com.todoapp.pressentation.dto.request.SignUpRequest;
+import com.todoapp.pressentation.dto.request.TodoCreateRequest;
+import com.todoapp.pressentation.dto.response.TodoResponse;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.todoapp.todo.integration.TodoQueryIntegrationTest$SqlCapture")
+@Transactional
+public class TodoQueryIntegrationTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CustomUserDetailService customUserDetailService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        SignUpRequest user = SignUpRequest.builder()
+                .email("query@gmail.com")
+                .password("Password123!")
+                .passwordConfirm("Password123!")
+                .name("강두기")
+                .phoneNumber("010-1234-1234")
+                .build();
+
+        userService.signUp(user);
+        authenticateAs(user.getEmail());
+    }
+
+    @Test
+    @DisplayName("필터 없이 조회하면 필터의 기본 정렬과 같은 최신 생성순")
+    void findAll_WithoutFilter_SortedByCreatedDesc() {
+        // given
+        TodoResponse first = todoService.createTodo(new TodoCreateRequest("첫 번째", null));
+        TodoResponse second = todoService.createTodo(new TodoCreateRequest("두 번째", null));
+        TodoResponse third = todoService.createTodo(new TodoCreateRequest("세 번째", null));
+
+        // when
+        List<TodoResponse> unfiltered = todoService.findAll();
+        List<TodoResponse> createdDesc = todoService.findAll(filter(null, null, null, TodoSort.CREATED_DESC));
+
+        // then
+        assertThat(unfiltered).extracting(TodoResponse::getId)
+                .containsExactly(third.getId(), second.getId(), first.getId());
+        assertThat(unfiltered).extracting(TodoResponse::getId)
+                .containsExactlyElementsOf(createdDesc.stream().map(TodoResponse::getId).toList());
+    }
+
+    @Test
+    @DisplayName("완료 여부로 필터링")
+    void findAll_FilterByCompleted() {
+        // given
+        TodoResponse done = todoService.createTodo(new TodoCreateRequest("완료한 일", null));
+        todoService.createTodo(new TodoCreateRequest("남은 일", null));
+        todoService.completeTodo(done.getId(), null);
+
+        // when
+        List<TodoResponse> completed = todoService.findAll(filter(true, null, null, null));
+        List<TodoResponse> remaining = todoService.findAll(filter(false, null, null, null));
+
+        // then
+        assertThat(completed).extracting(TodoResponse::getTitle).containsExactly("완료한 일");
+        assertThat(remaining).extracting(TodoResponse::getTitle).containsExactly("남은 일");
+    }
+
+    @Test
+    @DisplayName("제목 접두사 필터는 %, _ 를 문자 그대로 비교")
+    void findAll_FilterByTitlePrefix_EscapesWildcards() {
+        // given
+        todoService.createTodo(new TodoCreateRequest("100% 완료", null));
+        todoService.createTodo(new TodoCreateRequest("100점 받기", null));
+        todoService.createTodo(new TodoCreateRequest("스프링 공부", null));
+
+        // when
+        List<TodoResponse> responses = todoService.findAll(filter(null, null, "100%", null));
+
+        // then
+        assertThat(responses).extracting(TodoResponse::getTitle).containsExactly("100% 완료");
+    }
+
+    @Test
+    @DisplayName("생성 시각 범위 밖의 Todo는 제외")
+    void findAll_FilterByCreatedRange() {
+        // given
+        todoService.createTodo(new TodoCreateRequest("스프링 공부", null));
+        Instant future = Instant.now().plus(1, ChronoUnit.DAYS);
+
+        // when
+        List<TodoResponse> responses = todoService.findAll(filter(null, future, null, null));
+
+        // then
+        assertThat(responses).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제목 오름차순 정렬")
+    void findAll_SortByTitle() {
+        // given
+        todoService.createTodo(new TodoCreateRequest("다", null));
+        todoService.createTodo(new TodoCreateRequest("가", null));
+        todoService.createTodo(new TodoCreateRequest("나", null));
+
+        // when
+        List<TodoResponse> responses = todoService.findAll(filter(null, null, null, TodoSort.TITLE_ASC));
+
+        // then
+        assertThat(responses).extracting(TodoResponse::getTitle).containsExactly("가", "나", "다");
+    }
+
+    @Test
+    @DisplayName("필터 조건으로 Hibernate가 만든 SQL이 인덱스를 사용 - H2 실행 계획 확인")
+    void filterQueries_UseCompositeIndexes() {
+        // given - 테이블 스캔보다 인덱스가 유리할 만큼 데이터를 넣는다
+        List<TodoCreateRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            requests.add(new TodoCreateRequest("할 일 " + i, null));
+        }
+        todoService.createTodos(requests);
+        todoRepository.flush();
+        Long userId = jdbcTemplate.queryForObject(
+                "select id from users where email = 'query@gmail.com'", Long.class);
+        Instant from = Instant.parse("2025-01-01T00:00:00Z");
+
+        // when - TodoQueryRepositoryImpl이 실제로 만든 SQL을 같은 값으로 실행 계획 확인
+        String byCompleted = explain(userId,
+                new TodoFilter(true, from, null, null, null, null, TodoSort.CREATED_DESC),
+                true, Timestamp.from(from));
+        String byUpdated = explain(userId,
+                new TodoFilter(null, null, null, from, null, null, null),
+                Timestamp.from(from));
+        String byTitle = explain(userId,
+                new TodoFilter(null, null, null, null, null, "할 일 1", null),
+                "할 일 1%");
+
+        // then
+        assertThat(byCompleted).containsIgnoringCase("idx_todo_user_completed_created");
+        assertThat(byUpdated).containsIgnoringCase("idx_todo_user_updated");
+        assertThat(byTitle).containsIgnoringCase("idx_todo_user_title");
+    }
+
+    /**
+     * 필터로 목록을 조회하면서 Hibernate가 보낸 SQL을 잡아 같은 파라미터로 실행 계획을 얻는다.
+     *
+     * @param filterParams user_id 다음에 바인딩되는 필터 값 (조건 순서대로)
+     */
+    private String explain(Long userId, TodoFilter filter, Object... filterParams) {
+        SqlCapture.STATEMENTS.clear();
+        todoRepository.findAllViews(userId, filter);
+        String sql = SqlCapture.STATEMENTS.getLast();
+
+        Object[] params = new Object[filterParams.length + 1];
+        params[0] = userId;
+        System.arraycopy(filterParams, 0, params, 1, filterParams.length);
+        return jdbcTemplate.queryForObject("explain " + sql, String.class, params);
+    }
+
+    /**
+     * Hibernate가 JDBC로 보내는 SQL 기록 (hibernate.session_factory.statement_inspector)
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    private TodoFilter filter(Boolean completed, Instant createdFrom, String titlePrefix, TodoSort sort) {
+        return new TodoFilter(completed, createdFrom, null, null, null, titlePrefix, sort);
+    }
+
+    private void authenticateAs(String email) {
+        CustomUserDetails userDetails =
+                (CustomUserDetails) customUserDetailService.loadUserByUsername(email);
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        userDetails, null, userDetails.getAuthorities());
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+}
@@ -0,0 +1,103 @@
+package com.todoapp.todo.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.todoapp.business.service.TodoService;
+import com.todoapp.business.service.UserService;
+import com.todoapp.common.security.CustomUserDetailService;
+import com.todoapp.common.security.CustomUserDetails;
+import com.todoapp.dataaccess.repository.TodoRepository;
+import com.todoapp.dataaccess.repository.UserRepository;
+import com.todoapp.pressentation.dto.request.SignUpRequest;
+import com.todoapp.pressentation.dto.request.TodoCreateRequest;
+import com.todoapp.pressentation.dto.request.UpdateTodoRequest;
+import com.todoapp.pressentation.dto.response.SearchPageResponse;
+import com.todoapp.pressentation.dto.response.TodoResponse;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 쓰기 후 검색 결과가 바로 반영되는지 확인
+ * 검색 인덱스는 커밋 이후에 갱신되므로 테스트 트랜잭션 없이 실행하고 직접 정리한다.
+ */
+@SpringBootTest
+public class TodoSearchIntegrationTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CustomUserDetailService customUserDetailService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setup() {
+        userService.signUp(SignUpRequest.builder()
+                .email("search@gmail.com")
+                .password("Password123!")
+                .passwordConfirm("Password123!")
+                .name("강두기")
+                .phoneNumber("010-1234-1234")
+                .build());
+        authenticateAs("search@gmail.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("생성/수정/삭제가 검색 결과에 바로 반영된다")
+    void search_AfterWrites_ReturnsFreshResults() {
+        // given
+        TodoResponse spring = todoService.createTodo(new TodoCreateRequest("스프링 공부", "JPA 연관관계"));
+        todoService.createTodo(new TodoCreateRequest("운동", "헬스장 가기"));
+        assertThat(ids(todoService.search("스프링", null, null))).containsExactly(spring.getId());
+
+        // when & then - 생성
+        TodoResponse jpa = todoService.createTodo(new TodoCreateRequest("JPA 복습", null));
+        assertThat(ids(todoService.search("jpa", null, null))).containsExactly(jpa.getId(), spring.getId());
+
+        // when & then - 수정
+        todoService.updateTodo(spring.getId(), new UpdateTodoRequest("영어 공부", null), null);
+        assertThat(ids(todoService.search("스프링", null, null))).isEmpty();
+        assertThat(ids(todoService.search("영어", null, null))).containsExactly(spring.getId());
+
+        // when & then - 삭제
+        todoService.deleteTodo(jpa.getId());
+        assertThat(ids(todoService.search("jpa", null, null))).containsExactly(spring.getId());
+    }
+
+    private static List<Long> ids(SearchPageResponse<TodoResponse> response) {
+        return response.getItems().stream().map(TodoResponse::getId).toList();
+    }
+
+    private void authenticateAs(String email) {
+        CustomUserDetails userDetails =
+                (CustomUserDetails) customUserDetailService.loadUserByUsername(email);
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        userDetails, null, userDetails.getAuthorities());
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+}
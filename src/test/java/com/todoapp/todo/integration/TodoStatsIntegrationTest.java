@@ -0,0 +1,166 @@
+package com.todoapp.todo.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.todoapp.business.service.TodoService;
+import com.todoapp.business.service.UserService;
+import com.todoapp.common.security.CustomUserDetailService;
+import com.todoapp.common.security.CustomUserDetails;
+import com.todoapp.dataaccess.repository.TodoRepository;
+import com.todoapp.implement.todo.TodoStatsReconciler;
+import com.todoapp.implement.todo.TodoStatsRecorder;
+import com.todoapp.pressentation.dto.request.SignUpRequest;
+import com.todoapp.pressentation.dto.request.TodoCreateRequest;
+import com.todoapp.pressentation.dto.response.DailyCompletionResponse;
+import com.todoapp.pressentation.dto.response.TodoBulkItemResult;
+import com.todoapp.pressentation.dto.response.TodoResponse;
+import com.todoapp.pressentation.dto.response.TodoStatsResponse;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+public class TodoStatsIntegrationTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CustomUserDetailService customUserDetailService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoStatsRecorder todoStatsRecorder;
+
+    @Autowired
+    private TodoStatsReconciler todoStatsReconciler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        SignUpRequest user = SignUpRequest.builder()
+                .email("stats@gmail.com")
+                .password("Password123!")
+                .passwordConfirm("Password123!")
+                .name("강두기")
+                .phoneNumber("010-1234-1234")
+                .build();
+
+        userService.signUp(user);
+        authenticateAs(user.getEmail());
+    }
+
+    @Test
+    @DisplayName("생성/완료/삭제가 카운터와 오늘 완료 수에 반영")
+    void findStats_ReflectsWrites() {
+        // given
+        TodoResponse first = todoService.createTodo(new TodoCreateRequest("스프링 공부", null));
+        TodoResponse second = todoService.createTodo(new TodoCreateRequest("운동하기", null));
+        todoService.createTodo(new TodoCreateRequest("장보기", null));
+        todoService.completeTodo(first.getId(), null);
+        todoService.completeTodo(second.getId(), null);
+        todoService.deleteTodo(second.getId());
+
+        // when
+        TodoStatsResponse stats = todoService.findStats(null);
+
+        // then
+        assertThat(stats.getTotalCount()).isEqualTo(2);
+        assertThat(stats.getCompletedCount()).isEqualTo(1);
+        assertThat(stats.getPendingCount()).isEqualTo(1);
+        assertThat(stats.getDaily()).hasSize(7);
+        assertThat(stats.getDaily().getLast().getDate()).isEqualTo(todoStatsRecorder.today());
+        assertThat(stats.getDaily().getLast().getCompletions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 완료된 Todo를 다시 완료해도 두 번 세지 않는다")
+    void completeTwice_CountsOnce() {
+        // given
+        TodoResponse todo = todoService.createTodo(new TodoCreateRequest("스프링 공부", null));
+        todoService.completeTodo(todo.getId(), null);
+
+        // when
+        todoService.completeTodo(todo.getId(), null);
+        todoService.completeTodos(List.of(todo.getId()));
+
+        // then
+        TodoStatsResponse stats = todoService.findStats(1);
+        assertThat(stats.getCompletedCount()).isEqualTo(1);
+        assertThat(stats.getDaily()).extracting(DailyCompletionResponse::getCompletions).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("일괄 생성/완료/삭제도 반영")
+    void bulkWrites_ReflectedInStats() {
+        // given
+        List<Long> ids = todoService.createTodos(List.of(
+                        new TodoCreateRequest("하나", null),
+                        new TodoCreateRequest("둘", null),
+                        new TodoCreateRequest("셋", null)))
+                .getResults().stream()
+                .map(TodoBulkItemResult::getId)
+                .toList();
+
+        // when
+        todoService.completeTodos(ids.subList(0, 2));
+        todoService.deleteTodos(List.of(ids.get(0), ids.get(2)));
+
+        // then
+        TodoStatsResponse stats = todoService.findStats(1);
+        assertThat(stats.getTotalCount()).isEqualTo(1);
+        assertThat(stats.getCompletedCount()).isEqualTo(1);
+        assertThat(stats.getDaily()).extracting(DailyCompletionResponse::getCompletions).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("보정 작업이 어긋난 카운터와 일별 집계를 다시 센다")
+    void reconcile_RepairsDrift() {
+        // given
+        TodoResponse todo = todoService.createTodo(new TodoCreateRequest("스프링 공부", null));
+        todoService.createTodo(new TodoCreateRequest("운동하기", null));
+        todoService.completeTodo(todo.getId(), null);
+        todoRepository.flush();
+        Long userId = jdbcTemplate.queryForObject(
+                "select id from users where email = 'stats@gmail.com'", Long.class);
+        jdbcTemplate.update("update todo_stats set total_count = 99, completed_count = 0 where user_id = ?", userId);
+        jdbcTemplate.update("delete from todo_daily_completion where user_id = ?", userId);
+
+        // when
+        boolean repaired = todoStatsReconciler.reconcile(userId);
+
+        // then
+        TodoStatsResponse stats = todoService.findStats(1);
+        assertThat(repaired).isTrue();
+        assertThat(stats.getTotalCount()).isEqualTo(2);
+        assertThat(stats.getCompletedCount()).isEqualTo(1);
+        assertThat(stats.getDaily()).extracting(DailyCompletionResponse::getCompletions).containsExactly(1L);
+        assertThat(todoStatsReconciler.reconcile(userId)).isFalse();
+    }
+
+    private void authenticateAs(String email) {
+        CustomUserDetails userDetails =
+                (CustomUserDetails) customUserDetailService.loadUserByUsername(email);
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        userDetails, null, userDetails.getAuthorities());
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+}
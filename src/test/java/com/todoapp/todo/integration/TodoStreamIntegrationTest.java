@@ -0,0 +1,157 @@
+package com.todoapp.todo.integration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.todoapp.business.service.UserService;
+import com.todoapp.dataaccess.repository.TodoRepository;
+import com.todoapp.dataaccess.repository.UserRepository;
+import com.todoapp.pressentation.dto.request.LoginRequest;
+import com.todoapp.pressentation.dto.request.SignUpRequest;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * 변경 알림은 커밋 후에 보내므로 테스트 트랜잭션 없이 실행하고 직접 정리한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class TodoStreamIntegrationTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        SignUpRequest request = SignUpRequest.builder()
+                .email("stream@gmail.com")
+                .password("Password123@")
+                .passwordConfirm("Password123@")
+                .name("강두기")
+                .phoneNumber("010-1234-1234")
+                .build();
+
+        userService.signUp(request);
+        accessToken = userService.login(new LoginRequest(request.getEmail(), request.getPassword()))
+                .getAccessToken();
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("연결된 스트림으로 생성/완료 이벤트를 받는다")
+    void stream_ReceivesChangesOfOwner() throws Exception {
+        // given
+        MockHttpServletResponse stream = openStream(null);
+        awaitContent(stream, "event:ready");
+
+        // when
+        long id = createTodo("알림 받기");
+        mockMvc.perform(patch("/api/todos/" + id + "/complete")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        // then
+        awaitContent(stream, "event:completed");
+        assertThat(stream.getContentAsString())
+                .contains("event:created")
+                .contains("\"todoIds\":[" + id + "]");
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID로 재연결하면 놓친 이벤트를 다시 받는다")
+    void stream_WithLastEventId_ReplaysMissedEvents() throws Exception {
+        // given - 처음 연결에서 받은 위치
+        MockHttpServletResponse first = openStream(null);
+        String lastEventId = firstEventId(awaitContent(first, "event:ready"));
+
+        // when - 끊긴 사이에 생성
+        createTodo("놓친 변경");
+        MockHttpServletResponse resumed = openStream(lastEventId);
+
+        // then
+        awaitContent(resumed, "event:created");
+        assertThat(resumed.getContentAsString()).doesNotContain("event:reset");
+    }
+
+    @Test
+    @DisplayName("알 수 없는 Last-Event-ID면 reset 이벤트로 목록을 다시 받게 한다")
+    void stream_WithUnknownLastEventId_SendsReset() throws Exception {
+        MockHttpServletResponse stream = openStream("unknown-1");
+
+        awaitContent(stream, "event:reset");
+    }
+
+    private MockHttpServletResponse openStream(String lastEventId) throws Exception {
+        var builder = get("/api/todos/stream")
+                .header("Authorization", "Bearer " + accessToken)
+                .accept(MediaType.TEXT_EVENT_STREAM);
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    /**
+     * 이벤트는 별도 스레드에서 보내므로 내용이 올 때까지 기다린다.
+     */
+    private String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            String content = response.getContentAsString();
+            if (content.contains(expected)) {
+                return content;
+            }
+            Thread.sleep(20);
+        }
+        return fail("'%s' 이벤트를 받지 못했습니다. 받은 내용: %s", expected, response.getContentAsString());
+    }
+
+    private static String firstEventId(String content) {
+        Matcher matcher = EVENT_ID.matcher(content);
+        assertThat(matcher.find()).isTrue();
+        return matcher.group(1);
+    }
+
+    private long createTodo(String title) throws Exception {
+        String body = mockMvc.perform(post("/api/todos")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"%s\"}".formatted(title)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return Long.parseLong(body.replaceAll(".*\"id\":(\\d+).*", "$1"));
+    }
+}
@@ -0,0 +1,259 @@
+package com.todoapp.todo.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.todoapp.business.service.TodoService;
+import com.todoapp.business.service.UserService;
+import com.todoapp.common.exception.InvalidSyncTokenException;
+import com.todoapp.common.security.CustomUserDetailService;
+import com.todoapp.common.security.CustomUserDetails;
+import com.todoapp.dataaccess.repository.TodoRepository;
+import com.todoapp.implement.todo.TodoTombstonePurger;
+import com.todoapp.pressentation.dto.request.SignUpRequest;
+import com.todoapp.pressentation.dto.request.TodoCreateRequest;
+import com.todoapp.pressentation.dto.request.UpdateTodoRequest;
+import com.todoapp.pressentation.dto.response.TodoChangesResponse;
+import com.todoapp.pressentation.dto.response.TodoResponse;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+public class TodoSyncIntegrationTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CustomUserDetailService customUserDetailService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoTombstonePurger todoTombstonePurger;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        SignUpRequest user = SignUpRequest.builder()
+                .email("sync@gmail.com")
+                .password("Password123!")
+                .passwordConfirm("Password123!")
+                .name("강두기")
+                .phoneNumber("010-1234-1234")
+                .build();
+
+        userService.signUp(user);
+        authenticateAs(user.getEmail());
+    }
+
+    @Test
+    @DisplayName("토큰 없이 요청하면 전체 목록과 첫 토큰을 반환")
+    void findChanges_WithoutToken_ReturnsAll() {
+        // given
+        todoService.createTodo(new TodoCreateRequest("스프링 공부", null));
+        todoService.createTodo(new TodoCreateRequest("운동하기", null));
+
+        // when
+        TodoChangesResponse response = todoService.findChanges(null, null);
+
+        // then
+        assertThat(response.getChanged()).extracting(TodoResponse::getTitle)
+                .containsExactly("스프링 공부", "운동하기");
+        assertThat(response.getDeletedIds()).isEmpty();
+        assertThat(response.getSyncToken()).isNotBlank();
+        assertThat(response.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰 이후에 바뀐 Todo와 삭제된 id만 반환")
+    void findChanges_SinceToken_ReturnsOnlyChanges() {
+        // given
+        TodoResponse untouched = todoService.createTodo(new TodoCreateRequest("그대로", null));
+        TodoResponse updated = todoService.createTodo(new TodoCreateRequest("수정 전", null));
+        TodoResponse deleted = todoService.createTodo(new TodoCreateRequest("삭제 대상", null));
+        String token = todoService.findChanges(null, null).getSyncToken();
+
+        todoService.updateTodo(updated.getId(), new UpdateTodoRequest("수정 후", null), null);
+        todoService.deleteTodo(deleted.getId());
+        TodoResponse created = todoService.createTodo(new TodoCreateRequest("새로 추가", null));
+
+        // when
+        TodoChangesResponse response = todoService.findChanges(token, null);
+
+        // then
+        assertThat(response.getChanged()).extracting(TodoResponse::getId)
+                .containsExactly(updated.getId(), created.getId())
+                .doesNotContain(untouched.getId());
+        assertThat(response.getChanged().getFirst().getTitle()).isEqualTo("수정 후");
+        assertThat(response.getDeletedIds()).containsExactly(deleted.getId());
+        assertThat(response.getSyncToken()).isNotEqualTo(token);
+        assertThat(response.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 빈 응답과 같은 토큰을 반환")
+    void findChanges_NoChanges_ReturnsSameToken() {
+        // given
+        todoService.createTodo(new TodoCreateRequest("스프링 공부", null));
+        String token = todoService.findChanges(null, null).getSyncToken();
+
+        // when
+        TodoChangesResponse response = todoService.findChanges(token, null);
+
+        // then
+        assertThat(response.getChanged()).isEmpty();
+        assertThat(response.getDeletedIds()).isEmpty();
+        assertThat(response.getSyncToken()).isEqualTo(token);
+    }
+
+    @Test
+    @DisplayName("limit보다 변경이 많으면 나눠서 받고, 이어 받으면 빠짐없이 모두 받는다")
+    void findChanges_WithLimit_PagesThroughAllChanges() {
+        // given
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(todoService.createTodo(new TodoCreateRequest("할 일 " + i, null)).getId());
+        }
+
+        // when
+        List<Long> received = new ArrayList<>();
+        String token = null;
+        TodoChangesResponse response;
+        do {
+            response = todoService.findChanges(token, 2);
+            assertThat(response.getChanged().size()).isLessThanOrEqualTo(2);
+            response.getChanged().forEach(todo -> received.add(todo.getId()));
+            token = response.getSyncToken();
+        } while (response.isHasMore());
+
+        // then
+        assertThat(received).containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션의 일괄 변경은 limit보다 많아도 한 응답으로 받는다")
+    void findChanges_BulkChange_NotSplit() {
+        // given
+        String token = todoService.findChanges(null, null).getSyncToken();
+        todoService.createTodos(List.of(
+                new TodoCreateRequest("하나", null),
+                new TodoCreateRequest("둘", null),
+                new TodoCreateRequest("셋", null)));
+
+        // when
+        TodoChangesResponse response = todoService.findChanges(token, 2);
+
+        // then
+        assertThat(response.getChanged()).extracting(TodoResponse::getTitle)
+                .containsExactlyInAnyOrder("하나", "둘", "셋");
+        assertThat(response.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 삭제 기록은 지우고, 그보다 오래된 토큰에는 reset과 함께 전체 목록을 반환")
+    void findChanges_TokenOlderThanPurgedTombstones_ResetsToFullSync() {
+        // given
+        TodoResponse kept = todoService.createTodo(new TodoCreateRequest("남은 할 일", null));
+        TodoResponse deleted = todoService.createTodo(new TodoCreateRequest("삭제 대상", null));
+        String staleToken = todoService.findChanges(null, null).getSyncToken();
+        todoService.deleteTodo(deleted.getId());
+        todoRepository.flush();
+        jdbcTemplate.update("update todo_tombstone set deleted_at = ? where todo_id = ?",
+                Timestamp.from(Instant.now().minus(Duration.ofDays(40))), deleted.getId());
+
+        // when
+        todoTombstonePurger.purgeAll();
+        TodoChangesResponse response = todoService.findChanges(staleToken, null);
+
+        // then
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from todo_tombstone where todo_id = ?", Long.class, deleted.getId())).isZero();
+        assertThat(response.isReset()).isTrue();
+        assertThat(response.getChanged()).extracting(TodoResponse::getId).containsExactly(kept.getId());
+        assertThat(response.getDeletedIds()).isEmpty();
+        assertThat(response.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("지운 삭제 기록 이후의 토큰은 reset 없이 이어서 받고, 보관 기간 안의 삭제 기록은 남는다")
+    void findChanges_TokenAfterPurgedTombstones_ContinuesDelta() {
+        // given
+        TodoResponse old = todoService.createTodo(new TodoCreateRequest("오래전 삭제", null));
+        TodoResponse recent = todoService.createTodo(new TodoCreateRequest("최근 삭제", null));
+        todoService.deleteTodo(old.getId());
+        todoRepository.flush();
+        jdbcTemplate.update("update todo_tombstone set deleted_at = ? where todo_id = ?",
+                Timestamp.from(Instant.now().minus(Duration.ofDays(40))), old.getId());
+        String token = todoService.findChanges(null, null).getSyncToken();
+        todoService.deleteTodo(recent.getId());
+
+        // when
+        todoTombstonePurger.purgeAll();
+        TodoChangesResponse response = todoService.findChanges(token, null);
+
+        // then
+        assertThat(response.isReset()).isFalse();
+        assertThat(response.getDeletedIds()).containsExactly(recent.getId());
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 토큰이면 예외")
+    void findChanges_InvalidToken_ThrowsException() {
+        assertThatThrownBy(() -> todoService.findChanges("not-a-token", null))
+                .isInstanceOf(InvalidSyncTokenException.class);
+    }
+
+    @Test
+    @DisplayName("델타 조회가 (user_id, change_seq) 인덱스를 사용 - H2 실행 계획 확인")
+    void changesQuery_UsesChangeSeqIndex() {
+        // given
+        List<TodoCreateRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            requests.add(new TodoCreateRequest("할 일 " + i, null));
+        }
+        todoService.createTodos(requests);
+        todoRepository.flush();
+        Long userId = jdbcTemplate.queryForObject(
+                "select id from users where email = 'sync@gmail.com'", Long.class);
+
+        // when
+        String plan = jdbcTemplate.queryForObject("""
+                explain select id from todo
+                where user_id = %d and change_seq > 10 and change_seq <= 20
+                order by change_seq, id
+                """.formatted(userId), String.class);
+
+        // then
+        assertThat(plan).containsIgnoringCase("idx_todo_user_change_seq");
+    }
+
+    private void authenticateAs(String email) {
+        CustomUserDetails userDetails =
+                (CustomUserDetails) customUserDetailService.loadUserByUsername(email);
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        userDetails, null, userDetails.getAuthorities());
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+}
@@ -0,0 +1,192 @@
+package com.todoapp.todo.unit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import com.todoapp.common.exception.IdempotencyKeyReusedException;
+import com.todoapp.common.exception.InvalidIdempotencyKeyException;
+import com.todoapp.implement.todo.TodoIdempotencyStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import tools.jackson.databind.ObjectMapper;
+
+class TodoIdempotencyStoreTest {
+
+    private final AtomicLong currentUserId = new AtomicLong(1L);
+    private final TodoIdempotencyStore store = new TodoIdempotencyStore(
+            currentUserId::get, new ObjectMapper(), 1000, Duration.ofMinutes(1), Duration.ofSeconds(5));
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 키로 다시 보내면 실행하지 않고 첫 응답을 돌려준다")
+    void execute_SameKey_ReplaysFirstResponse() {
+        ResponseEntity<String> first = store.execute("key-1", "createTodo", "스프링 공부", this::create);
+        ResponseEntity<String> second = store.execute("key-1", "createTodo", "스프링 공부", this::create);
+
+        assertThat(executions).hasValue(1);
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(second.getBody()).isEqualTo(first.getBody());
+        assertThat(second.getHeaders().getFirst(TodoIdempotencyStore.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(first.getHeaders().getFirst(TodoIdempotencyStore.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("키가 없으면 매번 실행")
+    void execute_WithoutKey_AlwaysExecutes() {
+        store.execute(null, "createTodo", "스프링 공부", this::create);
+        store.execute(null, "createTodo", "스프링 공부", this::create);
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("키는 사용자별로 구분")
+    void execute_SameKeyOtherUser_Executes() {
+        store.execute("key-1", "createTodo", "스프링 공부", this::create);
+        currentUserId.set(2L);
+        store.execute("key-1", "createTodo", "스프링 공부", this::create);
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 요청에 쓰면 예외")
+    void execute_SameKeyDifferentRequest_ThrowsException() {
+        store.execute("key-1", "createTodo", "스프링 공부", this::create);
+
+        assertThatThrownBy(() -> store.execute("key-1", "createTodo", "운동하기", this::create))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+        assertThatThrownBy(() -> store.execute("key-1", "deleteTodo", "스프링 공부", this::create))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+    }
+
+    @Test
+    @DisplayName("빈 키나 너무 긴 키는 예외")
+    void execute_InvalidKey_ThrowsException() {
+        assertThatThrownBy(() -> store.execute(" ", "createTodo", "스프링 공부", this::create))
+                .isInstanceOf(InvalidIdempotencyKeyException.class);
+        assertThatThrownBy(() -> store.execute("k".repeat(256), "createTodo", "스프링 공부", this::create))
+                .isInstanceOf(InvalidIdempotencyKeyException.class);
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("실패한 실행은 보관하지 않아 재시도하면 다시 실행")
+    void execute_AfterFailure_ExecutesAgain() {
+        assertThatThrownBy(() -> store.execute("key-1", "createTodo", "스프링 공부", () -> {
+            executions.incrementAndGet();
+            throw new IllegalStateException("DB 오류");
+        })).isInstanceOf(IllegalStateException.class);
+
+        ResponseEntity<String> retried = store.execute("key-1", "createTodo", "스프링 공부", this::create);
+
+        assertThat(executions).hasValue(2);
+        assertThat(retried.getHeaders().getFirst(TodoIdempotencyStore.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("Error로 끝난 실행도 보관하지 않아 재시도가 기다리지 않고 다시 실행")
+    void execute_AfterError_RetryExecutesWithoutWaiting() {
+        assertThatThrownBy(() -> store.execute("key-1", "createTodo", "스프링 공부", () -> {
+            executions.incrementAndGet();
+            throw new OutOfMemoryError("테스트");
+        })).isInstanceOf(OutOfMemoryError.class);
+
+        ResponseEntity<String> retried = assertTimeoutPreemptively(Duration.ofSeconds(1),
+                () -> store.execute("key-1", "createTodo", "스프링 공부", this::create));
+
+        assertThat(executions).hasValue(2);
+        assertThat(retried.getHeaders().getFirst(TodoIdempotencyStore.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("처리 중에 기다리던 요청도 첫 실행의 Error를 그대로 받는다")
+    void execute_FirstThrowsError_WaitingDuplicateReceivesError() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ResponseEntity<String>> first = executor.submit(() ->
+                    store.execute("key-1", "createTodo", "스프링 공부", () -> {
+                        started.countDown();
+                        await(release);
+                        throw new StackOverflowError();
+                    }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            store.bindTo(registry);
+            Future<ResponseEntity<String>> duplicate = executor.submit(() ->
+                    store.execute("key-1", "createTodo", "스프링 공부", this::create));
+            // 중복 요청이 첫 실행을 기다리기 시작한 뒤에 끝낸다
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (registry.get("todo.idempotency.replays").functionCounter().count() < 1
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+            assertThatThrownBy(() -> duplicate.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(StackOverflowError.class);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("처리 중에 같은 키로 온 요청은 첫 실행의 결과를 기다려 받는다")
+    void execute_ConcurrentDuplicates_CollapsedOntoFirst() throws Exception {
+        int duplicates = 8;
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(duplicates + 1);
+        try {
+            Future<ResponseEntity<String>> first = executor.submit(() ->
+                    store.execute("key-1", "createTodo", "스프링 공부", () -> {
+                        started.countDown();
+                        await(release);
+                        return create();
+                    }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Future<ResponseEntity<String>>> others = new ArrayList<>();
+            for (int i = 0; i < duplicates; i++) {
+                others.add(executor.submit(() -> store.execute("key-1", "createTodo", "스프링 공부", this::create)));
+            }
+            release.countDown();
+
+            String body = first.get(5, TimeUnit.SECONDS).getBody();
+            for (Future<ResponseEntity<String>> other : others) {
+                assertThat(other.get(5, TimeUnit.SECONDS).getBody()).isEqualTo(body);
+            }
+            assertThat(executions).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ResponseEntity<String> create() {
+        return ResponseEntity.status(HttpStatus.CREATED).body("todo-" + executions.incrementAndGet());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.todoapp.todo.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.todoapp.dataaccess.projection.TodoView;
+import com.todoapp.implement.todo.TodoListCache;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class TodoListCacheTest {
+
+    private static final long USER_ID = 1L;
+    private static final long OTHER_USER_ID = 2L;
+
+    private final TodoListCache cache = new TodoListCache(true, 100, Duration.ofMinutes(5));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 DB를 거치지 않고 캐시에서 반환")
+    void getOrLoad_SecondCall_ServedFromCache() {
+        cache.getOrLoad(USER_ID, this::load);
+        List<TodoView> todos = cache.getOrLoad(USER_ID, this::load);
+
+        assertThat(loads).hasValue(1);
+        assertThat(todos).extracting(TodoView::id).containsExactly(10L);
+        assertThat(cache.find(USER_ID, 10L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("무효화는 해당 사용자의 목록만 버린다")
+    void evict_OnlyAffectsOwner() {
+        cache.getOrLoad(USER_ID, this::load);
+        cache.getOrLoad(OTHER_USER_ID, this::load);
+
+        cache.evict(USER_ID);
+
+        assertThat(cache.find(USER_ID, 10L)).isEmpty();
+        assertThat(cache.find(OTHER_USER_ID, 10L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 읽어 온 목록은 사용되지 않는다")
+    void getOrLoad_EvictedWhileLoading_NotServed() {
+        cache.getOrLoad(USER_ID, () -> {
+            List<TodoView> stale = load();
+            cache.evict(USER_ID);  // 다른 요청의 쓰기
+            return stale;
+        });
+
+        cache.getOrLoad(USER_ID, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("같은 트랜잭션에서 바꾼 사용자의 목록은 캐시하지 않고 커밋 후 다시 읽는다")
+    void evict_InTransaction_SkipsCachingUntilCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.evict(USER_ID);
+
+        cache.getOrLoad(USER_ID, this::load);
+        cache.getOrLoad(USER_ID, this::load);
+        assertThat(loads).hasValue(2);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        cache.getOrLoad(USER_ID, this::load);
+        cache.getOrLoad(USER_ID, this::load);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 항상 DB에서 읽는다")
+    void getOrLoad_Disabled_AlwaysLoads() {
+        TodoListCache disabled = new TodoListCache(false, 100, Duration.ofMinutes(5));
+
+        disabled.getOrLoad(USER_ID, this::load);
+        disabled.getOrLoad(USER_ID, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private List<TodoView> load() {
+        loads.incrementAndGet();
+        return List.of(new TodoView(10L, "Todo", null, false, Instant.now(), Instant.now(), 0L));
+    }
+}
@@ -0,0 +1,51 @@
+package com.todoapp.todo.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.todoapp.implement.todo.TodoChangedEvent;
+import com.todoapp.implement.todo.TodoListVersions;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TodoListVersionsTest {
+
+    private final TodoListVersions versions = new TodoListVersions(4);
+
+    @Test
+    @DisplayName("추적하는 사용자 수는 max-users를 넘지 않는다")
+    void onTodoChanged_ManyUsers_StaysBounded() {
+        for (long userId = 1; userId <= 1_000; userId++) {
+            change(userId);
+        }
+
+        assertThat(versions.trackedUsers()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("표에서 지워진 사용자도 목록이 바뀌면 이전에 나간 적 없는 버전을 받는다")
+    void current_AfterPruning_NeverRepeatsOldVersion() {
+        Set<Long> seen = new HashSet<>();
+        seen.add(versions.current(1L));
+
+        for (int round = 0; round < 20; round++) {
+            change(1L);
+            long changed = versions.current(1L);
+            assertThat(seen).doesNotContain(changed);
+            seen.add(changed);
+
+            // 다른 사용자들의 변경으로 사용자 1이 표에서 밀려나도 버전은 줄지 않는다
+            for (long other = 2; other <= 10; other++) {
+                change(other + round * 100L);
+            }
+            assertThat(versions.current(1L)).isGreaterThanOrEqualTo(changed);
+            seen.add(versions.current(1L));
+        }
+    }
+
+    private void change(long userId) {
+        versions.onTodoChanged(new TodoChangedEvent(userId, TodoChangedEvent.Type.UPDATED, List.of(1L)));
+    }
+}
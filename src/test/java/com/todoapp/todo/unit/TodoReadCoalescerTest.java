@@ -0,0 +1,175 @@
+package com.todoapp.todo.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.todoapp.common.exception.TodoAccessDeniedException;
+import com.todoapp.implement.todo.TodoChangedEvent;
+import com.todoapp.implement.todo.TodoChangedEvent.Type;
+import com.todoapp.implement.todo.TodoListVersions;
+import com.todoapp.implement.todo.TodoReadCoalescer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TodoReadCoalescerTest {
+
+    private static final long USER_ID = 1L;
+    private static final int CALLERS = 8;
+
+    private final TodoListVersions versions = new TodoListVersions(100);
+    private final TodoReadCoalescer coalescer = new TodoReadCoalescer(true, versions);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch loading = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS + 1);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        coalescer.bindTo(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("진행 중인 같은 조회에 합쳐져 DB 조회는 한 번")
+    void execute_ConcurrentSameQuery_LoadsOnce() throws Exception {
+        Future<String> leader = executor.submit(() -> coalescer.execute(USER_ID, "findAll", null, this::slowLoad));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        List<Future<String>> followers = submitFollowers("findAll", null);
+        release.countDown();
+
+        String result = leader.get(5, TimeUnit.SECONDS);
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(result);
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("조회가 끝나면 결과를 보관하지 않고 다음 조회는 다시 읽는다")
+    void execute_AfterCompletion_LoadsAgain() {
+        coalescer.execute(USER_ID, "findAll", null, this::load);
+        coalescer.execute(USER_ID, "findAll", null, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("쓰기로 버전이 오르면 진행 중인 이전 조회에 합쳐지지 않는다")
+    void execute_AfterWrite_NotCoalescedWithOlderRead() throws Exception {
+        Future<String> before = executor.submit(() -> coalescer.execute(USER_ID, "findAll", null, this::slowLoad));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        versions.onTodoChanged(new TodoChangedEvent(USER_ID, Type.CREATED, List.of(1L)));
+        String after = coalescer.execute(USER_ID, "findAll", null, this::load);
+        release.countDown();
+
+        assertThat(before.get(5, TimeUnit.SECONDS)).isNotEqualTo(after);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("인자가 다르면 따로 조회")
+    void execute_DifferentArgument_LoadsSeparately() throws Exception {
+        Future<String> first = executor.submit(() -> coalescer.execute(USER_ID, "findById", 1L, this::slowLoad));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        coalescer.execute(USER_ID, "findById", 2L, this::load);
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("먼저 온 조회의 예외는 합쳐진 조회에도 전달")
+    void execute_LeaderFails_FollowersReceiveSameException() throws Exception {
+        Future<String> leader = executor.submit(() -> coalescer.execute(USER_ID, "findById", 1L, () -> {
+            slowLoad();
+            throw new TodoAccessDeniedException();
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        List<Future<String>> followers = submitFollowers("findById", 1L);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(TodoAccessDeniedException.class);
+        for (Future<String> follower : followers) {
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(TodoAccessDeniedException.class);
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("먼저 온 조회가 Error로 끝나도 합쳐진 조회는 멈추지 않고 같은 Error를 받는다")
+    void execute_LeaderThrowsError_FollowersDoNotHang() throws Exception {
+        Future<String> leader = executor.submit(() -> coalescer.execute(USER_ID, "findAll", null, () -> {
+            slowLoad();
+            throw new StackOverflowError();
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        List<Future<String>> followers = submitFollowers("findAll", null);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(StackOverflowError.class);
+        for (Future<String> follower : followers) {
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(StackOverflowError.class);
+        }
+
+        // 진행 중 항목도 지워져서 다음 조회는 새로 읽는다
+        assertThat(coalescer.execute(USER_ID, "findAll", null, this::load)).isEqualTo("result-2");
+    }
+
+    // 먼저 온 조회가 DB를 읽는 중에 들어온 요청들 (모두 합쳐질 때까지 기다린다)
+    private List<Future<String>> submitFollowers(String operation, Object argument) throws InterruptedException {
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            followers.add(executor.submit(() -> coalescer.execute(USER_ID, operation, argument, this::load)));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescedCount() < CALLERS && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(coalescedCount()).isEqualTo(CALLERS);
+        return followers;
+    }
+
+    private double coalescedCount() {
+        return registry.get("todo.read.coalescing").tag("result", "coalesced").functionCounter().count();
+    }
+
+    private String slowLoad() {
+        loading.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return load();
+    }
+
+    private String load() {
+        return "result-" + loads.incrementAndGet();
+    }
+}
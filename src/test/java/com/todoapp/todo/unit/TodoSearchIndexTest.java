@@ -0,0 +1,171 @@
+package com.todoapp.todo.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.todoapp.dataaccess.projection.TodoView;
+import com.todoapp.implement.todo.TodoChangedEvent;
+import com.todoapp.implement.todo.TodoChangedEvent.Type;
+import com.todoapp.implement.todo.TodoSearchIndex;
+import com.todoapp.implement.todo.TodoSearchIndex.Result;
+import com.todoapp.implement.todo.TodoTokenizer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class TodoSearchIndexTest {
+
+    private static final long USER_ID = 1L;
+    private static final long OTHER_USER_ID = 2L;
+
+    private final TodoSearchIndex index = new TodoSearchIndex(100, Duration.ofMinutes(5), DataSize.ofMegabytes(1));
+    private final Map<Long, TodoView> db = new HashMap<>();
+    private final AtomicInteger fullLoads = new AtomicInteger();
+
+    @Test
+    @DisplayName("한글은 2글자씩, 영문은 단어 단위로 나눈다")
+    void tokenize_KoreanBigramsAndWords() {
+        assertThat(TodoTokenizer.tokenize("스프링 공부, JPA Study"))
+                .containsExactly("스프", "프링", "공부", "jpa", "study");
+        assertThat(TodoTokenizer.tokenize("공")).containsExactly("공");
+    }
+
+    @Test
+    @DisplayName("띄어쓰기 없이 붙여 쓴 한글도 부분 단어로 찾는다")
+    void search_KoreanSubstring_Matches() {
+        save(1L, "스프링부트 공부", null);
+        save(2L, "운동하기", null);
+
+        Result result = search("스프링");
+
+        assertThat(result.items()).extracting(TodoView::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("모든 검색어가 들어 있어야 하고, 제목 일치가 설명 일치보다 먼저")
+    void search_RanksTitleMatchesFirst() {
+        save(1L, "장보기", "JPA 책 사기");
+        save(2L, "JPA 공부", "책 읽기");
+        save(3L, "JPA 복습", null);
+
+        Result result = search("jpa 책");
+
+        assertThat(result.items()).extracting(TodoView::id).containsExactly(2L, 1L);
+        assertThat(result.totalHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("페이지 단위로 나눠서 반환")
+    void search_Paginates() {
+        for (long id = 1; id <= 5; id++) {
+            save(id, "회의 " + id, null);
+        }
+
+        Result first = index.search(USER_ID, "회의", 0, 2, this::loadAll, this::loadByIds);
+        Result last = index.search(USER_ID, "회의", 4, 2, this::loadAll, this::loadByIds);
+
+        assertThat(first.items()).extracting(TodoView::id).containsExactly(5L, 4L);
+        assertThat(last.items()).extracting(TodoView::id).containsExactly(1L);
+        assertThat(last.totalHits()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("처음 한 번만 전체를 읽고, 이후에는 바뀐 Todo만 다시 읽는다")
+    void search_AfterChange_RefreshesOnlyChangedTodos() {
+        save(1L, "스프링 공부", null);
+        save(2L, "운동", null);
+        search("공부");
+
+        // 수정 + 삭제
+        save(1L, "영어 공부", null);
+        db.remove(2L);
+        index.onTodoChanged(new TodoChangedEvent(USER_ID, Type.UPDATED, List.of(1L)));
+        index.onTodoChanged(new TodoChangedEvent(USER_ID, Type.DELETED, List.of(2L)));
+
+        assertThat(search("영어").items()).extracting(TodoView::id).containsExactly(1L);
+        assertThat(search("스프링").items()).isEmpty();
+        assertThat(search("운동").items()).isEmpty();
+        assertThat(fullLoads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("메모리 한도를 넘으면 가장 오래 사용하지 않은 사용자부터 제거")
+    void search_OverBudget_EvictsLeastRecentlyUsedUser() {
+        TodoSearchIndex small = new TodoSearchIndex(100, Duration.ofMinutes(5), DataSize.ofKilobytes(1));
+        for (long id = 1; id <= 10; id++) {
+            save(id, "스프링 공부 " + id, "JPA 책 읽고 정리하기");
+        }
+
+        small.search(USER_ID, "스프링", 0, 20, this::loadAll, this::loadByIds);
+        small.search(OTHER_USER_ID, "스프링", 0, 20, this::loadAll, this::loadByIds);
+        small.search(USER_ID, "스프링", 0, 20, this::loadAll, this::loadByIds);
+
+        // 두 사용자가 함께 들어갈 수 없으므로 USER_ID는 다시 DB에서 만든다
+        assertThat(fullLoads).hasValue(3);
+        // 남은 것은 방금 사용한 USER_ID 인덱스 하나
+        index.search(USER_ID, "스프링", 0, 20, this::loadAll, this::loadByIds);
+        assertThat(small.usedBytes()).isPositive().isEqualTo(index.usedBytes());
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 동시에 처음 검색해도 인덱스는 한 번만 만든다")
+    void search_ConcurrentFirstSearch_BuildsOnce() throws Exception {
+        save(1L, "스프링 공부", null);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<Result>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return search("스프링");
+                }));
+            }
+            start.countDown();
+
+            for (Future<Result> result : results) {
+                assertThat(result.get().items()).extracting(TodoView::id).containsExactly(1L);
+            }
+        }
+        assertThat(fullLoads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("토큰이 없는 검색어는 인덱스를 만들지 않고 빈 결과")
+    void search_BlankQuery_ReturnsEmpty() {
+        save(1L, "스프링 공부", null);
+
+        Result result = search("  !! ");
+
+        assertThat(result.items()).isEmpty();
+        assertThat(fullLoads).hasValue(0);
+    }
+
+    private Result search(String query) {
+        return index.search(USER_ID, query, 0, 20, this::loadAll, this::loadByIds);
+    }
+
+    private void save(long id, String title, String description) {
+        db.put(id, new TodoView(id, title, description, false, Instant.now(), Instant.now(), 0L));
+    }
+
+    private List<TodoView> loadAll() {
+        fullLoads.incrementAndGet();
+        return new ArrayList<>(db.values());
+    }
+
+    private List<TodoView> loadByIds(Collection<Long> ids) {
+        return ids.stream().filter(db::containsKey).map(db::get).toList();
+    }
+}
@@ -0,0 +1,144 @@
+package com.todoapp.todo.unit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.todoapp.dataaccess.projection.TodoView;
+import com.todoapp.implement.todo.TodoChangedEvent;
+import com.todoapp.implement.todo.TodoChangedEvent.Type;
+import com.todoapp.implement.todo.TodoTitleSuggester;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class TodoTitleSuggesterTest {
+
+    private static final long USER_ID = 1L;
+    private static final long OTHER_USER_ID = 2L;
+    private static final Instant BASE = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final TodoTitleSuggester suggester = new TodoTitleSuggester(DataSize.ofMegabytes(1), 100);
+    private final Map<Long, TodoView> db = new HashMap<>();
+    private final AtomicInteger fullLoads = new AtomicInteger();
+
+    @Test
+    @DisplayName("접두사로 시작하는 제목을 최근 수정 순으로, 같은 제목은 한 번만")
+    void suggest_RecentFirstAndDistinct() {
+        save(1L, "스프링 공부", 1);
+        save(2L, "스프링 복습", 2);
+        save(3L, "스프링 공부", 3);
+        save(4L, "운동", 4);
+
+        List<String> titles = suggest("스프");
+
+        assertThat(titles).containsExactly("스프링 공부", "스프링 복습");
+    }
+
+    @Test
+    @DisplayName("대소문자를 구분하지 않고 사전 순으로 limit개까지만")
+    void suggest_CaseInsensitiveWithLimit() {
+        save(1L, "JPA 공부", 1);
+        save(2L, "jpa 복습", 2);
+        save(3L, "Java 스트림", 3);
+
+        List<String> titles = suggester.suggest(USER_ID, "j", 2, this::loadAll, this::loadByIds);
+
+        assertThat(titles).containsExactly("Java 스트림", "JPA 공부");
+    }
+
+    @Test
+    @DisplayName("사전 순으로 limit개를 찾으면 구간의 나머지는 보지 않는다")
+    void suggest_StopsAfterLimitMatches() {
+        save(1L, "스프링 가", 3);
+        save(2L, "스프링 나", 1);
+        save(3L, "스프링 다", 9);
+
+        List<String> titles = suggester.suggest(USER_ID, "스프", 2, this::loadAll, this::loadByIds);
+
+        assertThat(titles).containsExactly("스프링 가", "스프링 나");
+    }
+
+    @Test
+    @DisplayName("변경 이벤트 후에는 바뀐 Todo만 다시 읽어 반영")
+    void suggest_AfterChange_RefreshesChangedTodos() {
+        save(1L, "스프링 공부", 1);
+        save(2L, "스프링 복습", 2);
+        suggest("스프");
+
+        save(1L, "영어 공부", 3);
+        db.remove(2L);
+        suggester.onTodoChanged(new TodoChangedEvent(USER_ID, Type.UPDATED, List.of(1L)));
+        suggester.onTodoChanged(new TodoChangedEvent(USER_ID, Type.DELETED, List.of(2L)));
+
+        assertThat(suggest("스프")).isEmpty();
+        assertThat(suggest("영")).containsExactly("영어 공부");
+        assertThat(fullLoads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("메모리 한도를 넘으면 가장 오래 사용하지 않은 사용자부터 제거")
+    void suggest_OverBudget_EvictsLeastRecentlyUsedUser() {
+        TodoTitleSuggester small = new TodoTitleSuggester(DataSize.ofKilobytes(1), 100);
+        for (long id = 1; id <= 10; id++) {
+            save(id, "스프링 공부 " + id, (int) id);
+        }
+
+        small.suggest(USER_ID, "스프", 5, this::loadAll, this::loadByIds);
+        small.suggest(OTHER_USER_ID, "스프", 5, this::loadAll, this::loadByIds);
+        small.suggest(USER_ID, "스프", 5, this::loadAll, this::loadByIds);
+
+        // 두 사용자가 함께 들어갈 수 없으므로 USER_ID는 다시 DB에서 만든다
+        assertThat(fullLoads).hasValue(3);
+        assertThat(small.usedBytes()).isLessThan(2 * DataSize.ofKilobytes(1).toBytes());
+    }
+
+    @Test
+    @DisplayName("Todo가 없는 사용자도 메모리에 계산하고, 사용자 수 한도를 넘으면 오래 사용하지 않은 사용자부터 제거")
+    void suggest_OverMaxUsers_EvictsLeastRecentlyUsedUsers() {
+        TodoTitleSuggester limited = new TodoTitleSuggester(DataSize.ofMegabytes(1), 2);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        limited.bindTo(registry);
+
+        for (long userId = 1; userId <= 5; userId++) {
+            limited.suggest(userId, "스프", 5, List::of, ids -> List.of());
+        }
+
+        assertThat(registry.get("todo.suggest.users").gauge().value()).isEqualTo(2);
+        assertThat(registry.get("todo.suggest.evictions").functionCounter().count()).isEqualTo(3);
+        assertThat(limited.usedBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("빈 접두사는 DB를 읽지 않고 빈 결과")
+    void suggest_BlankPrefix_ReturnsEmpty() {
+        save(1L, "스프링 공부", 1);
+
+        assertThat(suggest("  ")).isEmpty();
+        assertThat(fullLoads).hasValue(0);
+    }
+
+    private List<String> suggest(String prefix) {
+        return suggester.suggest(USER_ID, prefix, 10, this::loadAll, this::loadByIds);
+    }
+
+    private void save(long id, String title, int minutes) {
+        Instant time = BASE.plusSeconds(minutes * 60L);
+        db.put(id, new TodoView(id, title, null, false, time, time, 0L));
+    }
+
+    private List<TodoView> loadAll() {
+        fullLoads.incrementAndGet();
+        return new ArrayList<>(db.values());
+    }
+
+    private List<TodoView> loadByIds(Collection<Long> ids) {
+        return ids.stream().filter(db::containsKey).map(db::get).toList();
+    }
+}